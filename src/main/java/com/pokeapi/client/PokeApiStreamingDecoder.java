@@ -0,0 +1,235 @@
+package com.pokeapi.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.pokeapi.model.Ability;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.PokemonSpeciesResponse;
+import com.pokeapi.model.Type;
+import feign.Response;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * PokeAPI 응답 스트리밍 디코더 (필드 선택)
+ *
+ * /pokemon/{id} 응답은 moves, game_indices, 모든 스프라이트 변형 등으로 매우 크지만
+ * PokemonResponse는 id, name, height, weight, types, abilities, sprites.front_default만 사용합니다.
+ * Jackson 토큰 스트림에서 필요한 필드만 읽고 나머지 하위 트리는 skipChildren()으로 건너뛰므로
+ * 중간 트리나 쓰지 않는 문자열을 만들지 않습니다.
+ * /pokemon-species/{id}는 names 중 한국어("ko") 항목만 남깁니다.
+ *
+ * 그 외 응답 타입은 기존 Spring 디코더(delegate)로 처리합니다.
+ */
+public class PokeApiStreamingDecoder implements Decoder {
+
+    private final JsonFactory jsonFactory;
+    private final Decoder delegate;
+
+    public PokeApiStreamingDecoder(JsonFactory jsonFactory, Decoder delegate) {
+        this.jsonFactory = jsonFactory;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object decode(Response response, java.lang.reflect.Type type) throws IOException {
+        boolean pokemon = type == PokemonResponse.class;
+        boolean species = type == PokemonSpeciesResponse.class;
+        if ((!pokemon && !species) || response.body() == null) {
+            return delegate.decode(response, type);
+        }
+
+        try (InputStream in = response.body().asInputStream();
+             JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            return pokemon ? readPokemon(parser) : readSpecies(parser);
+        }
+    }
+
+    /**
+     * 포켓몬 기본 정보 (현재 위치: 최상위 START_OBJECT)
+     */
+    static PokemonResponse readPokemon(JsonParser parser) throws IOException {
+        PokemonResponse pokemon = new PokemonResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id":
+                    pokemon.setId(parser.getIntValue());
+                    break;
+                case "name":
+                    pokemon.setName(parser.getText());
+                    break;
+                case "height":
+                    pokemon.setHeight(parser.getIntValue());
+                    break;
+                case "weight":
+                    pokemon.setWeight(parser.getIntValue());
+                    break;
+                case "types":
+                    pokemon.setTypes(value == JsonToken.START_ARRAY ? readTypes(parser) : null);
+                    break;
+                case "abilities":
+                    pokemon.setAbilities(value == JsonToken.START_ARRAY ? readAbilities(parser) : null);
+                    break;
+                case "sprites":
+                    pokemon.setSprites(value == JsonToken.START_OBJECT ? readSprites(parser) : null);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return pokemon;
+    }
+
+    private static List<Type> readTypes(JsonParser parser) throws IOException {
+        List<Type> types = new ArrayList<>(2);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Type type = new Type();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("slot".equals(field)) {
+                    type.setSlot(parser.getIntValue());
+                } else if ("type".equals(field) && value == JsonToken.START_OBJECT) {
+                    Type.TypeDetail detail = new Type.TypeDetail();
+                    readNamedResource(parser, detail::setName, detail::setUrl);
+                    type.setType(detail);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            types.add(type);
+        }
+        return types;
+    }
+
+    private static List<Ability> readAbilities(JsonParser parser) throws IOException {
+        List<Ability> abilities = new ArrayList<>(3);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Ability ability = new Ability();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("slot".equals(field)) {
+                    ability.setSlot(parser.getIntValue());
+                } else if ("is_hidden".equals(field)) {
+                    ability.setHidden(value == JsonToken.VALUE_TRUE);
+                } else if ("ability".equals(field) && value == JsonToken.START_OBJECT) {
+                    Ability.AbilityDetail detail = new Ability.AbilityDetail();
+                    readNamedResource(parser, detail::setName, detail::setUrl);
+                    ability.setAbility(detail);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            abilities.add(ability);
+        }
+        return abilities;
+    }
+
+    private static PokemonResponse.Sprites readSprites(JsonParser parser) throws IOException {
+        PokemonResponse.Sprites sprites = new PokemonResponse.Sprites();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("front_default".equals(field)) {
+                sprites.setFront_default(value == JsonToken.VALUE_NULL ? null : parser.getText());
+            } else {
+                parser.skipChildren();  // other, versions 등 큰 하위 트리
+            }
+        }
+        return sprites;
+    }
+
+    /**
+     * {"name": ..., "url": ...} 형태의 PokeAPI 리소스 참조
+     */
+    private static void readNamedResource(JsonParser parser, Consumer<String> name, Consumer<String> url) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("name".equals(field)) {
+                name.accept(value == JsonToken.VALUE_NULL ? null : parser.getText());
+            } else if ("url".equals(field)) {
+                url.accept(value == JsonToken.VALUE_NULL ? null : parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 종족 정보 - names 중 한국어 항목만 (현재 위치: 최상위 START_OBJECT)
+     */
+    static PokemonSpeciesResponse readSpecies(JsonParser parser) throws IOException {
+        PokemonSpeciesResponse species = new PokemonSpeciesResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("names".equals(field) && value == JsonToken.START_ARRAY) {
+                species.setNames(readKoreanNames(parser));
+            } else {
+                parser.skipChildren();  // flavor_text_entries, genera, varieties 등
+            }
+        }
+        return species;
+    }
+
+    private static List<PokemonSpeciesResponse.Name> readKoreanNames(JsonParser parser) throws IOException {
+        List<PokemonSpeciesResponse.Name> names = new ArrayList<>(1);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String name = null;
+            Boolean korean = null;  // language가 name보다 먼저 오면 한국어가 아닌 이름은 문자열로 만들지 않음
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("language".equals(field) && value == JsonToken.START_OBJECT) {
+                    korean = readIsKorean(parser);
+                } else if ("name".equals(field) && value == JsonToken.VALUE_STRING && !Boolean.FALSE.equals(korean)) {
+                    name = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (Boolean.TRUE.equals(korean)) {
+                PokemonSpeciesResponse.Language language = new PokemonSpeciesResponse.Language();
+                language.setName("ko");
+                PokemonSpeciesResponse.Name koreanName = new PokemonSpeciesResponse.Name();
+                koreanName.setName(name);
+                koreanName.setLanguage(language);
+                names.add(koreanName);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * language.name이 "ko"인지 (문자열을 만들지 않고 문자 버퍼에서 비교)
+     */
+    private static boolean readIsKorean(JsonParser parser) throws IOException {
+        boolean korean = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("name".equals(field) && value == JsonToken.VALUE_STRING) {
+                char[] chars = parser.getTextCharacters();
+                int offset = parser.getTextOffset();
+                korean = parser.getTextLength() == 2 && chars[offset] == 'k' && chars[offset + 1] == 'o';
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return korean;
+    }
+}
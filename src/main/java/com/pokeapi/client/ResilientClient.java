@@ -0,0 +1,132 @@
+package com.pokeapi.client;
+
+import com.pokeapi.exception.ExternalApiException;
+import com.pokeapi.util.CircuitBreaker;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PokeAPI 호출용 Feign Client 데코레이터
+ *
+ * 1. 벌크헤드: 동시에 나가는 요청을 maxConcurrent개로 제한 (bulkheadWait 안에 자리가 없으면 거절)
+ * 2. 서킷 브레이커: 연속 실패가 쌓이면 일정 시간 동안 PokeAPI를 호출하지 않고 바로 ExternalApiException
+ * 3. 재시도: GET 요청의 I/O 오류, 429, 5xx 응답은 지터를 섞은 지수 백오프로 maxAttempts번까지 재시도
+ *    (그 밖의 예외는 재시도하지 않고 서킷 브레이커에 실패로만 알림)
+ *
+ * 404 등 4xx 응답은 정상 응답으로 보고 그대로 돌려줍니다 (FeignException.NotFound 처리는 호출하는 쪽)
+ */
+public class ResilientClient implements Client {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientClient.class);
+
+    private final Client delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMillis;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public ResilientClient(Client delegate, CircuitBreaker circuitBreaker,
+                           int maxConcurrent, long bulkheadWaitMillis,
+                           int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        acquireBulkhead(request);
+        try {
+            return executeWithRetry(request, options);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Response executeWithRetry(Request request, Request.Options options) throws IOException {
+        int attempts = request.httpMethod() == Request.HttpMethod.GET ? maxAttempts : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                throw new ExternalApiException("PokeAPI 호출이 일시 차단되었습니다 (서킷 브레이커 열림): " + request.url());
+            }
+
+            Response response;
+            try {
+                response = delegate.execute(request, options);
+            } catch (IOException e) {
+                circuitBreaker.onFailure();
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                log.debug("PokeAPI 호출 실패, 재시도 {}/{}: {} ({})", attempt, attempts, request.url(), e.getMessage());
+                backoff(attempt);
+                continue;
+            } catch (RuntimeException | Error e) {
+                // 예상하지 못한 실패도 결과를 알려야 HALF_OPEN 시험 호출 자리가 풀림 (재시도는 하지 않음)
+                circuitBreaker.onFailure();
+                throw e;
+            }
+
+            if (!isRetryable(response.status())) {
+                circuitBreaker.onSuccess();
+                return response;
+            }
+
+            circuitBreaker.onFailure();
+            if (attempt >= attempts) {
+                return response;    // 마지막 오류 응답은 Feign ErrorDecoder가 처리
+            }
+            log.debug("PokeAPI 오류 응답 {}, 재시도 {}/{}: {}", response.status(), attempt, attempts, request.url());
+            response.close();
+            backoff(attempt);
+        }
+    }
+
+    private void acquireBulkhead(Request request) {
+        try {
+            if (!bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new ExternalApiException("PokeAPI 동시 요청 한도를 초과했습니다: " + request.url());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("PokeAPI 요청 대기 중 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * 지터를 섞은 지수 백오프 (0 ~ min(maxDelay, baseDelay * 2^(attempt-1)) 사이 무작위)
+     */
+    private void backoff(int attempt) {
+        long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("PokeAPI 재시도 대기 중 중단되었습니다", e);
+        }
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+}
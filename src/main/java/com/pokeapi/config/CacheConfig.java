@@ -0,0 +1,63 @@
+package com.pokeapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.time.Duration;
+
+/**
+ * 캐시 설정
+ *
+ * @Cacheable 캐시는 로컬 Caffeine(L1) + Redis(L2) 2단계로 동작합니다.
+ * 노드 간 L1 일관성은 Redis pub/sub 무효화 메시지로 맞춥니다.
+ * Redis 값은 JDK 직렬화 대신 PokemonCacheSerializer(버전 바이트 + 바이너리)로 저장합니다.
+ * 캐시 전체 삭제(clear)는 Redis를 멈추는 KEYS 대신 SCAN으로 나눠서 키를 찾아 지웁니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${app.cache.local.max-size:1000}")
+    private long localMaxSize;  // 캐시별 L1 최대 항목 수
+
+    @Value("${app.cache.local.ttl-seconds:60}")
+    private long localTtlSeconds;   // L1 보관 시간 (무효화 메시지를 놓쳤을 때의 상한)
+
+    @Value("${app.cache.invalidation-channel:pokemon:cache:invalidation}")
+    private String invalidationChannel;
+
+    @Value("${app.cache.redis.clear-scan-batch-size:1000}")
+    private int clearScanBatchSize; // clear 시 SCAN 한 번에 가져올 키 수
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate redisTemplate) {
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory,
+                BatchStrategies.scan(clearScanBatchSize));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .serializeValuesWith(SerializationPair.fromSerializer(new PokemonCacheSerializer())))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, invalidationChannel,
+                localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                          TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+}
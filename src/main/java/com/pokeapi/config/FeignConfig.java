@@ -0,0 +1,102 @@
+package com.pokeapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.client.PokeApiStreamingDecoder;
+import com.pokeapi.client.ResilientClient;
+import com.pokeapi.util.CircuitBreaker;
+import feign.Client;
+import feign.Request;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.http2client.Http2Client;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PokeAPI(Feign) 전송 계층 설정
+ *
+ * 기본 HttpURLConnection 대신 JDK HttpClient(HTTP/2, keep-alive 커넥션 재사용)를 사용하고
+ * 연결/읽기 타임아웃, 벌크헤드, 재시도, 서킷 브레이커를 ResilientClient로 감쌉니다.
+ * 재시도는 ResilientClient에서 하므로 Feign 자체 Retryer는 끕니다.
+ * 포켓몬/종족 응답은 필요한 필드만 읽는 PokeApiStreamingDecoder로 디코딩합니다.
+ */
+@Configuration
+public class FeignConfig {
+
+    @Value("${app.pokeapi.connect-timeout-ms:2000}")
+    private long connectTimeoutMillis;  // 연결 타임아웃
+
+    @Value("${app.pokeapi.read-timeout-ms:5000}")
+    private long readTimeoutMillis;     // 응답 타임아웃
+
+    @Value("${app.pokeapi.max-concurrent:16}")
+    private int maxConcurrent;          // 동시에 나가는 최대 요청 수 (벌크헤드)
+
+    @Value("${app.pokeapi.bulkhead-wait-ms:500}")
+    private long bulkheadWaitMillis;    // 벌크헤드 자리 대기 시간
+
+    @Value("${app.pokeapi.retry.max-attempts:3}")
+    private int maxAttempts;            // 최초 호출 포함 최대 시도 횟수
+
+    @Value("${app.pokeapi.retry.base-delay-ms:100}")
+    private long baseDelayMillis;       // 재시도 기본 대기 시간
+
+    @Value("${app.pokeapi.retry.max-delay-ms:1000}")
+    private long maxDelayMillis;        // 재시도 최대 대기 시간
+
+    @Value("${app.pokeapi.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;       // 서킷을 여는 연속 실패 횟수
+
+    @Value("${app.pokeapi.circuit-breaker.open-seconds:30}")
+    private long openSeconds;           // 서킷이 열려 있는 시간
+
+    @Bean
+    public Client feignClient() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        return new ResilientClient(
+                new Http2Client(httpClient),
+                new CircuitBreaker(failureThreshold, openSeconds, TimeUnit.SECONDS),
+                maxConcurrent, bulkheadWaitMillis,
+                maxAttempts, baseDelayMillis, maxDelayMillis);
+    }
+
+    @Bean
+    public Request.Options feignRequestOptions() {
+        return new Request.Options(connectTimeoutMillis, TimeUnit.MILLISECONDS,
+                readTimeoutMillis, TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * 기본 Feign 디코더(SpringDecoder) 앞에 스트리밍 디코더를 둠
+     */
+    @Bean
+    public Decoder feignDecoder(ObjectMapper objectMapper,
+                                ObjectFactory<HttpMessageConverters> messageConverters,
+                                ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        Decoder springDecoder = new OptionalDecoder(
+                new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers)));
+        return new PokeApiStreamingDecoder(objectMapper.getFactory(), springDecoder);
+    }
+
+    @Bean
+    public Retryer feignRetryer() {
+        return Retryer.NEVER_RETRY;
+    }
+}
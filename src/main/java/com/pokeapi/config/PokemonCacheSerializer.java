@@ -0,0 +1,38 @@
+package com.pokeapi.config;
+
+import com.pokeapi.util.PokemonBinaryCodec;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis 캐시 값 직렬화기 (PokemonBinaryCodec 사용)
+ *
+ * 포맷 버전이 다른 값(이전 배포에서 JDK 직렬화로 저장된 값 포함)은 null로 읽혀 캐시 미스가 되고,
+ * 다시 계산된 값으로 덮어써집니다.
+ */
+public class PokemonCacheSerializer implements RedisSerializer<Object> {
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return PokemonBinaryCodec.encode(value);
+        } catch (RuntimeException e) {
+            throw new SerializationException("캐시 값을 직렬화할 수 없습니다: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return PokemonBinaryCodec.decode(bytes);
+        } catch (RuntimeException e) {
+            throw new SerializationException("캐시 값을 읽을 수 없습니다", e);
+        }
+    }
+}
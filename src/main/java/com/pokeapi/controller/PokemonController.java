@@ -1,16 +1,27 @@
 package com.pokeapi.controller;
 
 import com.pokeapi.exception.PokemonInvalidArgumentException;
+import com.pokeapi.model.PokemonBatchResponse;
+import com.pokeapi.model.PokemonFacetResponse;
 import com.pokeapi.model.PokemonListResponse;
 import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.service.PokedexSnapshot;
+import com.pokeapi.service.PokedexSnapshotManager;
+import com.pokeapi.service.PokemonFilterIndex;
+import com.pokeapi.service.PokemonJsonBody;
+import com.pokeapi.service.PokemonJsonCache;
 import com.pokeapi.service.PokemonService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
@@ -21,49 +32,272 @@ public class PokemonController {
 
     private final PokemonService pokemonService;
 
-    public PokemonController(PokemonService pokemonService) {
+    private final PokemonJsonCache pokemonJsonCache;
+
+    private final PokedexSnapshotManager snapshotManager;
+
+    public PokemonController(PokemonService pokemonService, PokemonJsonCache pokemonJsonCache,
+                             PokedexSnapshotManager snapshotManager) {
         this.pokemonService = pokemonService;
+        this.pokemonJsonCache = pokemonJsonCache;
+        this.snapshotManager = snapshotManager;
     }
 
     /**
      * 개뱔 포켓몬 조회 (이름 또는 ID)
+     * 미리 직렬화된 JSON 바이트를 그대로 내려보내고, If-None-Match / If-Modified-Since가 일치하면 304를 반환
+     * Last-Modified는 포켓몬 행의 updatedAt (스냅샷을 만든 시각이 아니므로 노드/재시작과 관계없음)
+     * gzip 본문과 원본 JSON은 content-coding이 다르므로 strong ETag도 따로 씀 (gzip은 "-gz" 접미사)
      * @param nameOrId
+     * @param acceptEncoding
      * @return
      */
     @GetMapping("/{nameOrId}")
-    public ResponseEntity<PokemonResponse> getPokemon(@PathVariable String nameOrId) {
+    public ResponseEntity<byte[]> getPokemon(@PathVariable String nameOrId,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                             WebRequest webRequest) {
         log.debug("포켓몬 조회 요청: {}", nameOrId);
         // GlobalWExceptionHandler로 비즈니스 로직에만 집중
-        return ResponseEntity.ok(pokemonService.getPokemon(nameOrId));
+        PokemonResponse pokemon = pokemonService.getPokemon(nameOrId);
+        PokemonJsonBody body = pokemonJsonCache.get(pokemon);
+        boolean gzip = body.hasGzip() && acceptsGzip(acceptEncoding);
+        String etag = gzip ? body.getGzipEtag() : body.getEtag();
+
+        // 본문 ETag(JSON 해시)와 포켓몬 행의 마지막 변경 시각(updatedAt, 아직 저장 전이면 ETag만)으로 검증
+        long lastModified = pokemon.getUpdatedAt() != null ? pokemon.getUpdatedAt() : -1;
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.getGzip());
+        }
+        return builder.body(body.getJson());
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (q=0이면 거부, gzip이 없으면 "*"의 q 값을 따름)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (name.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    /**
+     * 여러 포켓몬 한 번에 조회 (본문: ID/이름 배열, 예: [1, "pikachu", "피카츄"])
+     * @param namesOrIds
+     * @return
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<PokemonBatchResponse> getPokemonBatch(@RequestBody List<String> namesOrIds) {
+        return ResponseEntity.ok(pokemonService.getPokemonBatch(namesOrIds));
+    }
+
+    /**
+     * 여러 포켓몬 한 번에 조회 (쿼리 문자열, 예: ?ids=1,4,pikachu)
+     * @param ids
+     * @return
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<PokemonBatchResponse> getPokemonBatchByQuery(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(pokemonService.getPokemonBatch(ids));
     }
 
     /**
      * 포켓몬 목록 조회 (페이징)
+     * after가 있으면 커서 모드(keyset)로 조회하고, type/ability/hiddenAbility가 있으면 조건에 맞는 포켓몬만 조회
+     * 조건끼리는 AND이고, 값 안에서 "|"는 OR, 앞의 "!"는 NOT (예: type=fire|water&type=!flying)
      * @param limit
      * @param offset
-     * @return
+     * @param after 이전 응답의 next 커서 (첫 페이지는 0)
+     * @param type 타입 이름 (영어/한국어, 여러 번 지정 가능)
+     * @param ability 특성 이름 (영어/한국어, 여러 번 지정 가능)
+     * @param hiddenAbility true면 숨겨진 특성이 있는 포켓몬만, false면 없는 포켓몬만
+     * @param count 커서 모드에서 전체 개수 포함 여부
+     * @param view summary면 ID/이름만, detail이면 타입/특성 포함 상세 정보까지 (전체 목록만 해당)
+     * @return 데이터셋이 바뀌지 않았으면 캐시/DB 조회 없이 304
      */
     @GetMapping()
     public ResponseEntity<PokemonListResponse> getAllPokemon(@RequestParam(defaultValue = "20") int limit,
-                                             @RequestParam(defaultValue = "0") int offset) {
+                                             @RequestParam(defaultValue = "0") int offset,
+                                             @RequestParam(required = false) String after,
+                                             @RequestParam(required = false) List<String> type,
+                                             @RequestParam(required = false) List<String> ability,
+                                             @RequestParam(required = false) Boolean hiddenAbility,
+                                             @RequestParam(defaultValue = "false") boolean count,
+                                             @RequestParam(defaultValue = "detail") String view,
+                                             WebRequest webRequest) {
 
-        log.debug("포켓몬 목록 조회 요청: limit: {}, offset: {}", limit, offset);
+        log.debug("포켓몬 목록 조회 요청: limit: {}, offset: {}, after: {}, type: {}, ability: {}, hiddenAbility: {}",
+                limit, offset, after, type, ability, hiddenAbility);
 
         // 유효성 검증
         if (limit < 1 || limit > 100) {
             throw new PokemonInvalidArgumentException("limit은 1-100 사이의 값이어야 합니다.");
         }
+        if (!"summary".equals(view) && !"detail".equals(view)) {
+            throw new PokemonInvalidArgumentException("view는 summary 또는 detail이어야 합니다.");
+        }
+        boolean detail = "detail".equals(view);
+        PokemonFilterIndex.Query filter = PokemonFilterIndex.Query.of(type, ability, hiddenAbility);
+
+        // 목록은 데이터셋 전체에서 만들어지므로 스냅샷 지문/마지막 변경 시각(포켓몬 updatedAt 최댓값)이 같으면 내용도 같음
+        PokedexSnapshot snapshot = snapshotManager.current();
+        if (!snapshot.isEmpty()
+                && webRequest.checkNotModified(datasetEtag(snapshot), snapshot.getLastModified())) {
+            return null;
+        }
 
         try {
-            PokemonListResponse response = pokemonService.getAllPokemon(limit, offset);
-            log.debug("포켓몬 목록 조회 성공: {}개 반환", response.getDetailedResults().size());
+            PokemonListResponse response;
+            if (filter.isEmpty()) {
+                response = after != null
+                        ? pokemonService.getAllPokemonAfter(after, limit, count, detail)
+                        : pokemonService.getAllPokemon(limit, offset, detail);
+            } else if (!snapshot.isEmpty()) {
+                // 스냅샷의 비트맵 인덱스 (조인 없음)
+                response = pokemonService.filterPokemon(filter, after, limit, offset, count);
+            } else if (filter.singleType() != null) {
+                // 스냅샷을 만들기 전에는 타입/특성 하나짜리 조건만 DB에서 조회
+                response = after != null
+                        ? pokemonService.getPokemonByTypeAfter(filter.singleType(), after, limit, count)
+                        : pokemonService.getPokemonByType(filter.singleType(), limit, offset);
+            } else if (filter.singleAbility() != null) {
+                response = after != null
+                        ? pokemonService.getPokemonByAbilityAfter(filter.singleAbility(), after, limit, count)
+                        : pokemonService.getPokemonByAbility(filter.singleAbility(), limit, offset);
+            } else {
+                throw new PokemonInvalidArgumentException("도감 데이터를 불러오는 중에는 여러 조건을 함께 사용할 수 없습니다.");
+            }
+            log.debug("포켓몬 목록 조회 성공: {}개 반환", response.getResults().size());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            log.error("포켓몬 목록 조회 실패: limit={}, offset={}", limit, offset, e);
+            log.error("포켓몬 목록 조회 실패: limit={}, offset={}, after={}", limit, offset, after, e);
             throw e;
         }
     }
 
+    /**
+     * 여러 조건 조합 조회 (팀 빌더용)
+     * 타입/특성 조건은 목록 조회와 같고 (여러 번 = AND, "|" = OR, "!" = NOT), 키/몸무게 범위와 정렬을 함께 지정
+     * @param type 타입 이름 (영어/한국어, 여러 번 지정 가능)
+     * @param ability 특성 이름 (영어/한국어, 여러 번 지정 가능)
+     * @param hiddenAbility true면 숨겨진 특성이 있는 포켓몬만, false면 없는 포켓몬만
+     * @param multiType true면 타입이 두 개 이상인 포켓몬만, false면 단일 타입만
+     * @param minHeight 최소 키 (데시미터, 포함)
+     * @param maxHeight 최대 키 (데시미터, 포함)
+     * @param minWeight 최소 몸무게 (헥토그램, 포함)
+     * @param maxWeight 최대 몸무게 (헥토그램, 포함)
+     * @param sort id, name, height, weight (앞에 "-"를 붙이면 내림차순)
+     * @param limit
+     * @param offset
+     * @param view summary면 ID/이름만, detail이면 상세 정보까지
+     * @return 데이터셋이 바뀌지 않았으면 304
+     */
+    @GetMapping("/query")
+    public ResponseEntity<PokemonListResponse> queryPokemon(@RequestParam(required = false) List<String> type,
+                                                            @RequestParam(required = false) List<String> ability,
+                                                            @RequestParam(required = false) Boolean hiddenAbility,
+                                                            @RequestParam(required = false) Boolean multiType,
+                                                            @RequestParam(required = false) Integer minHeight,
+                                                            @RequestParam(required = false) Integer maxHeight,
+                                                            @RequestParam(required = false) Integer minWeight,
+                                                            @RequestParam(required = false) Integer maxWeight,
+                                                            @RequestParam(defaultValue = "id") String sort,
+                                                            @RequestParam(defaultValue = "20") int limit,
+                                                            @RequestParam(defaultValue = "0") int offset,
+                                                            @RequestParam(defaultValue = "detail") String view,
+                                                            WebRequest webRequest) {
+
+        if (limit < 1 || limit > 100) {
+            throw new PokemonInvalidArgumentException("limit은 1-100 사이의 값이어야 합니다.");
+        }
+        if (offset < 0) {
+            throw new PokemonInvalidArgumentException("offset은 0 이상이어야 합니다.");
+        }
+        if (!"summary".equals(view) && !"detail".equals(view)) {
+            throw new PokemonInvalidArgumentException("view는 summary 또는 detail이어야 합니다.");
+        }
+
+        PokedexSnapshot snapshot = snapshotManager.current();
+        if (!snapshot.isEmpty()
+                && webRequest.checkNotModified(datasetEtag(snapshot), snapshot.getLastModified())) {
+            return null;
+        }
+
+        PokemonListResponse response = pokemonService.queryPokemon(
+                PokemonFilterIndex.Query.of(type, ability, hiddenAbility, multiType),
+                minHeight, maxHeight, minWeight, maxWeight, sort, limit, offset, "detail".equals(view));
+        log.debug("조건 조합 조회 성공: {}개 반환 (전체 {}개)", response.getResults().size(), response.getCount());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * facet 개수 조회 (타입별, 특성별, 숨겨진 특성/이중 타입 여부별, 키/몸무게 구간별)
+     * 조건을 주면 조건에 맞는 포켓몬 안에서 셈 (조건 파라미터는 /query와 같음)
+     * @return 데이터셋이 바뀌지 않았으면 304
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<PokemonFacetResponse> getFacets(@RequestParam(required = false) List<String> type,
+                                                          @RequestParam(required = false) List<String> ability,
+                                                          @RequestParam(required = false) Boolean hiddenAbility,
+                                                          @RequestParam(required = false) Boolean multiType,
+                                                          @RequestParam(required = false) Integer minHeight,
+                                                          @RequestParam(required = false) Integer maxHeight,
+                                                          @RequestParam(required = false) Integer minWeight,
+                                                          @RequestParam(required = false) Integer maxWeight,
+                                                          WebRequest webRequest) {
+
+        PokedexSnapshot snapshot = snapshotManager.current();
+        if (!snapshot.isEmpty()
+                && webRequest.checkNotModified(datasetEtag(snapshot), snapshot.getLastModified())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(pokemonService.getFacets(
+                PokemonFilterIndex.Query.of(type, ability, hiddenAbility, multiType),
+                minHeight, maxHeight, minWeight, maxWeight));
+    }
+
+    /**
+     * 데이터셋 버전 ETag (같은 URL이면 요청 파라미터가 같으므로 지문만으로 구분)
+     */
+    private static String datasetEtag(PokedexSnapshot snapshot) {
+        return "W/\"ds-" + Long.toHexString(snapshot.getFingerprint()) + "\"";
+    }
+
     /**
      * 포켓몬 검색 (타입, 특성 정보 포함)
      * @param q
@@ -16,8 +16,10 @@ import jakarta.persistence.*;
 @Table(name = "pokemon_abilities")
 public class PokemonAbility {
 
+    /** PokemonType과 같이 시퀀스로 ID 생성 (JDBC 배치 INSERT 가능) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pokemon_abilities_seq")
+    @SequenceGenerator(name = "pokemon_abilities_seq", sequenceName = "pokemon_abilities_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -15,8 +15,14 @@ import jakarta.persistence.*;
 @Table(name = "pokemon_types")
 public class PokemonType {
 
+    /**
+     * 시퀀스(pooled, 50개씩 할당)로 ID 생성
+     * IDENTITY는 INSERT 결과로 ID를 받아야 해서 Hibernate JDBC 배치 INSERT가 꺼지므로,
+     * 포켓몬 여러 마리의 pokemon_types 행을 batch_size 단위로 한 번에 보내기 위해 시퀀스 사용
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pokemon_types_seq")
+    @SequenceGenerator(name = "pokemon_types_seq", sequenceName = "pokemon_types_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,42 @@
+package com.pokeapi.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 포켓몬 한 번에 조회 응답
+ * results는 요청 순서대로 (중복 제거), 찾지 못한 이름/ID는 notFound,
+ * PokeAPI 장애로 불러오지 못한 이름/ID는 unavailable에 담습니다.
+ */
+public class PokemonBatchResponse implements Serializable {
+    private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+    private List<PokemonResponse> results = new ArrayList<>();
+    private List<String> notFound = new ArrayList<>();
+    private List<String> unavailable = new ArrayList<>();
+
+    public List<PokemonResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<PokemonResponse> results) {
+        this.results = results;
+    }
+
+    public List<String> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<String> notFound) {
+        this.notFound = notFound;
+    }
+
+    public List<String> getUnavailable() {
+        return unavailable;
+    }
+
+    public void setUnavailable(List<String> unavailable) {
+        this.unavailable = unavailable;
+    }
+}
@@ -0,0 +1,148 @@
+package com.pokeapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포켓몬 facet 개수 응답
+ * types/abilities는 개수가 많은 순 (0개인 항목은 생략),
+ * hiddenAbility/multiType은 "true"/"false"별 개수,
+ * height/weight는 구간별 개수 (min 이상 max 미만, 마지막 구간은 max 없음)
+ */
+public class PokemonFacetResponse implements Serializable {
+    private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+    private int count;
+    private Map<String, Integer> types = new LinkedHashMap<>();
+    private Map<String, Integer> abilities = new LinkedHashMap<>();
+    private Map<String, Integer> hiddenAbility = new LinkedHashMap<>();
+    private Map<String, Integer> multiType = new LinkedHashMap<>();
+    private List<Bucket> height = new ArrayList<>();
+    private List<Bucket> weight = new ArrayList<>();
+
+    /**
+     * 깊은 복사본 (스냅샷에 한 번 계산해 둔 응답을 요청마다 따로 내줄 때 사용)
+     */
+    public static PokemonFacetResponse copyOf(PokemonFacetResponse source) {
+        PokemonFacetResponse copy = new PokemonFacetResponse();
+        copy.count = source.count;
+        copy.types = new LinkedHashMap<>(source.types);
+        copy.abilities = new LinkedHashMap<>(source.abilities);
+        copy.hiddenAbility = new LinkedHashMap<>(source.hiddenAbility);
+        copy.multiType = new LinkedHashMap<>(source.multiType);
+        copy.height = copyOf(source.height);
+        copy.weight = copyOf(source.weight);
+        return copy;
+    }
+
+    private static List<Bucket> copyOf(List<Bucket> buckets) {
+        List<Bucket> copy = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            copy.add(new Bucket(bucket.min, bucket.max, bucket.count));
+        }
+        return copy;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Map<String, Integer> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Map<String, Integer> types) {
+        this.types = types;
+    }
+
+    public Map<String, Integer> getAbilities() {
+        return abilities;
+    }
+
+    public void setAbilities(Map<String, Integer> abilities) {
+        this.abilities = abilities;
+    }
+
+    public Map<String, Integer> getHiddenAbility() {
+        return hiddenAbility;
+    }
+
+    public void setHiddenAbility(Map<String, Integer> hiddenAbility) {
+        this.hiddenAbility = hiddenAbility;
+    }
+
+    public Map<String, Integer> getMultiType() {
+        return multiType;
+    }
+
+    public void setMultiType(Map<String, Integer> multiType) {
+        this.multiType = multiType;
+    }
+
+    public List<Bucket> getHeight() {
+        return height;
+    }
+
+    public void setHeight(List<Bucket> height) {
+        this.height = height;
+    }
+
+    public List<Bucket> getWeight() {
+        return weight;
+    }
+
+    public void setWeight(List<Bucket> weight) {
+        this.weight = weight;
+    }
+
+    public static class Bucket implements Serializable {
+        private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+        private int min;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer max;    // 마지막 구간은 null (상한 없음)
+        private int count;
+
+        public Bucket() {
+        }
+
+        public Bucket(int min, Integer max, int count) {
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public void setMin(int min) {
+            this.min = min;
+        }
+
+        public Integer getMax() {
+            return max;
+        }
+
+        public void setMax(Integer max) {
+            this.max = max;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
@@ -1,21 +1,24 @@
 package com.pokeapi.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.io.Serializable;
 import java.util.List;
 
 public class PokemonListResponse implements Serializable {
     private static final long serialVersionUID = 1L; // 직렬화 버전 ID
-    private int count;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer count;  // 커서 모드에서 count=true를 요청하지 않으면 null (COUNT 쿼리 생략)
     private String next;
     private String previous;
     private List<PokemonSummary> results;
     private List<PokemonResponse> detailedResults;
 
-    public int getCount() {
+    public Integer getCount() {
         return count;
     }
 
-    public void setCount(int count) {
+    public void setCount(Integer count) {
         this.count = count;
     }
 
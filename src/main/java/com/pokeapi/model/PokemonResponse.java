@@ -1,5 +1,7 @@
 package com.pokeapi.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.io.Serializable;
 import java.util.List;
 
@@ -13,6 +15,8 @@ public class PokemonResponse implements Serializable {
     private List<Ability> abilities;
     private List<Type> types;
     private Sprites sprites;
+    @JsonIgnore
+    private Long updatedAt; // DB에 마지막으로 저장된 시각 (epoch 밀리초, 저장 전이면 null) - Last-Modified용, 응답 본문에는 넣지 않음
 
     // Getters and Setters
     public String getName() {
@@ -79,6 +83,14 @@ public class PokemonResponse implements Serializable {
         this.englishName = englishName;
     }
 
+    public Long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public static class Sprites implements Serializable {
         private static final long serialVersionUID = 1L; // 직렬화 버전 ID
 
@@ -0,0 +1,200 @@
+package com.pokeapi.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 변경할 수 없는 포켓몬 응답 (도감 스냅샷 보관용)
+ *
+ * 스냅샷은 같은 응답 객체를 모든 스레드에 그대로 내주므로, 보관할 때 깊은 복사본을 만들고
+ * setter는 UnsupportedOperationException, 타입/특성 목록은 수정 불가 목록으로 막습니다.
+ * 클래스가 PokemonResponse를 상속하므로 JSON 직렬화/캐시 코덱 결과는 원래 응답과 같습니다.
+ */
+public final class ReadOnlyPokemonResponse extends PokemonResponse {
+    private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+    private ReadOnlyPokemonResponse(PokemonResponse source) {
+        super.setId(source.getId());
+        super.setName(source.getName());
+        super.setEnglishName(source.getEnglishName());
+        super.setHeight(source.getHeight());
+        super.setWeight(source.getWeight());
+        super.setUpdatedAt(source.getUpdatedAt());
+        if (source.getSprites() != null) {
+            super.setSprites(new ReadOnlySprites(source.getSprites()));
+        }
+        if (source.getTypes() != null) {
+            List<Type> types = new ArrayList<>(source.getTypes().size());
+            for (Type type : source.getTypes()) {
+                types.add(new ReadOnlyType(type));
+            }
+            super.setTypes(Collections.unmodifiableList(types));
+        }
+        if (source.getAbilities() != null) {
+            List<Ability> abilities = new ArrayList<>(source.getAbilities().size());
+            for (Ability ability : source.getAbilities()) {
+                abilities.add(new ReadOnlyAbility(ability));
+            }
+            super.setAbilities(Collections.unmodifiableList(abilities));
+        }
+    }
+
+    /**
+     * 변경할 수 없는 복사본 (이미 변경할 수 없는 응답이면 그대로 반환)
+     */
+    public static PokemonResponse copyOf(PokemonResponse source) {
+        if (source == null || source instanceof ReadOnlyPokemonResponse) {
+            return source;
+        }
+        return new ReadOnlyPokemonResponse(source);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("스냅샷의 포켓몬 응답은 변경할 수 없습니다");
+    }
+
+    @Override
+    public void setName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setId(int id) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setHeight(int height) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setWeight(int weight) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setAbilities(List<Ability> abilities) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setTypes(List<Type> types) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSprites(Sprites sprites) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setEnglishName(String englishName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setUpdatedAt(Long updatedAt) {
+        throw readOnly();
+    }
+
+    private static final class ReadOnlySprites extends Sprites {
+        private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+        ReadOnlySprites(Sprites source) {
+            super.setFront_default(source.getFront_default());
+        }
+
+        @Override
+        public void setFront_default(String front_default) {
+            throw readOnly();
+        }
+    }
+
+    private static final class ReadOnlyType extends Type {
+        private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+        ReadOnlyType(Type source) {
+            super.setSlot(source.getSlot());
+            if (source.getType() != null) {
+                super.setType(new ReadOnlyTypeDetail(source.getType()));
+            }
+        }
+
+        @Override
+        public void setSlot(int slot) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setType(TypeDetail type) {
+            throw readOnly();
+        }
+    }
+
+    private static final class ReadOnlyTypeDetail extends Type.TypeDetail {
+        private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+        ReadOnlyTypeDetail(Type.TypeDetail source) {
+            super.setName(source.getName());
+            super.setUrl(source.getUrl());
+        }
+
+        @Override
+        public void setName(String name) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setUrl(String url) {
+            throw readOnly();
+        }
+    }
+
+    private static final class ReadOnlyAbility extends Ability {
+        private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+        ReadOnlyAbility(Ability source) {
+            super.setSlot(source.getSlot());
+            super.setHidden(source.isHidden());
+            if (source.getAbility() != null) {
+                super.setAbility(new ReadOnlyAbilityDetail(source.getAbility()));
+            }
+        }
+
+        @Override
+        public void setHidden(boolean hidden) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setAbility(AbilityDetail ability) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setSlot(int slot) {
+            throw readOnly();
+        }
+    }
+
+    private static final class ReadOnlyAbilityDetail extends Ability.AbilityDetail {
+        private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+        ReadOnlyAbilityDetail(Ability.AbilityDetail source) {
+            super.setName(source.getName());
+            super.setUrl(source.getUrl());
+        }
+
+        @Override
+        public void setName(String name) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setUrl(String url) {
+            throw readOnly();
+        }
+    }
+}
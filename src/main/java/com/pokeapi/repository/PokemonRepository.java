@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,11 +42,52 @@ public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
     Optional<Pokemon> findByIdWithAllGraph(@Param("id") Long id);
 
     /**
-     * 모든 포켓몬과 연관 정보 조회 (페이지네이션)
+     * 포켓몬 요약(ID, 이름) 페이지 조회 (목록 조회 1단계)
+     * 컬렉션 fetch join 없이 페이징하므로 DB에서 LIMIT/OFFSET이 적용됩니다
      */
-    @EntityGraph(attributePaths = {"types", "types.type", "abilities", "abilities.ability"})
-    @Query("SELECT p FROM Pokemon p")
-    Page<Pokemon> findAllWithAllGraph(Pageable pageable);
+    @Query(value = "SELECT p.id AS id, p.name AS name FROM Pokemon p ORDER BY p.id",
+            countQuery = "SELECT COUNT(p) FROM Pokemon p")
+    Page<PokemonSummaryProjection> findSummaryPage(Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 포켓몬과 타입 정보 조회 (목록 조회 2단계)
+     */
+    @Query("SELECT DISTINCT p FROM Pokemon p " +
+            "LEFT JOIN FETCH p.types pt " +
+            "LEFT JOIN FETCH pt.type " +
+            "WHERE p.id IN :ids " +
+            "ORDER BY p.id")
+    List<Pokemon> findAllWithTypesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * ID 목록에 해당하는 포켓몬과 특성 정보 조회 (목록 조회 2단계)
+     * findAllWithTypesByIdIn()과 같은 트랜잭션에서 호출하면 특성 컬렉션이 같은 엔티티에 채워집니다
+     */
+    @Query("SELECT DISTINCT p FROM Pokemon p " +
+            "LEFT JOIN FETCH p.abilities pa " +
+            "LEFT JOIN FETCH pa.ability " +
+            "WHERE p.id IN :ids " +
+            "ORDER BY p.id")
+    List<Pokemon> findAllWithAbilitiesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 전체 포켓몬과 타입 정보 조회 (스냅샷 생성용)
+     */
+    @Query("SELECT DISTINCT p FROM Pokemon p " +
+            "LEFT JOIN FETCH p.types pt " +
+            "LEFT JOIN FETCH pt.type " +
+            "ORDER BY p.id")
+    List<Pokemon> findAllWithTypes();
+
+    /**
+     * 전체 포켓몬과 특성 정보 조회 (스냅샷 생성용)
+     * findAllWithTypes()와 같은 트랜잭션에서 호출하면 특성 컬렉션이 같은 엔티티에 채워집니다
+     */
+    @Query("SELECT DISTINCT p FROM Pokemon p " +
+            "LEFT JOIN FETCH p.abilities pa " +
+            "LEFT JOIN FETCH pa.ability " +
+            "ORDER BY p.id")
+    List<Pokemon> findAllWithAbilities();
 
     /**
      * 포켓몬과 모든 연관 정보 함께 조회 (두 번의 쿼리로 - MultipleBagFetchException 방지)
@@ -102,22 +144,76 @@ public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
     Optional<Pokemon> findByNameWithAbilities(@Param("name") String name);
 
     /**
-     * 특정 타입을 가진 포켓몬들 조회
+     * 특정 타입을 가진 포켓몬 요약 조회
      */
-    @Query("SELECT DISTINCT p FROM Pokemon p " +
+    @Query(value = "SELECT DISTINCT p.id AS id, p.name AS name FROM Pokemon p " +
+            "JOIN p.types pt " +
+            "JOIN pt.type t " +
+            "WHERE t.name = :typeName OR t.koreanName = :typeName " +
+            "ORDER BY p.id",
+            countQuery = "SELECT COUNT(DISTINCT p) FROM Pokemon p " +
+                    "JOIN p.types pt " +
+                    "JOIN pt.type t " +
+                    "WHERE t.name = :typeName OR t.koreanName = :typeName")
+    Page<PokemonSummaryProjection> findByTypeName(@Param("typeName") String typeName, Pageable pageable);
+
+    /**
+     * 특정 특성을 가진 포켓몬 요약 조회
+     */
+    @Query(value = "SELECT DISTINCT p.id AS id, p.name AS name FROM Pokemon p " +
+            "JOIN p.abilities pa " +
+            "JOIN pa.ability a " +
+            "WHERE a.name = :abilityName OR a.koreanName = :abilityName " +
+            "ORDER BY p.id",
+            countQuery = "SELECT COUNT(DISTINCT p) FROM Pokemon p " +
+                    "JOIN p.abilities pa " +
+                    "JOIN pa.ability a " +
+                    "WHERE a.name = :abilityName OR a.koreanName = :abilityName")
+    Page<PokemonSummaryProjection> findByAbilityName(@Param("abilityName") String abilityName, Pageable pageable);
+
+    /**
+     * 커서 이후 포켓몬 요약(ID, 이름) 조회 (keyset 페이징, COUNT 쿼리 없음)
+     */
+    @Query("SELECT p.id AS id, p.name AS name FROM Pokemon p WHERE p.id > :after ORDER BY p.id")
+    List<PokemonSummaryProjection> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * 커서 이후 특정 타입을 가진 포켓몬 요약 조회 (keyset 페이징, COUNT 쿼리 없음)
+     */
+    @Query("SELECT DISTINCT p.id AS id, p.name AS name FROM Pokemon p " +
+            "JOIN p.types pt " +
+            "JOIN pt.type t " +
+            "WHERE (t.name = :typeName OR t.koreanName = :typeName) AND p.id > :after " +
+            "ORDER BY p.id")
+    List<PokemonSummaryProjection> findByTypeNameAfter(@Param("typeName") String typeName, @Param("after") Long after, Pageable pageable);
+
+    /**
+     * 커서 이후 특정 특성을 가진 포켓몬 요약 조회 (keyset 페이징, COUNT 쿼리 없음)
+     */
+    @Query("SELECT DISTINCT p.id AS id, p.name AS name FROM Pokemon p " +
+            "JOIN p.abilities pa " +
+            "JOIN pa.ability a " +
+            "WHERE (a.name = :abilityName OR a.koreanName = :abilityName) AND p.id > :after " +
+            "ORDER BY p.id")
+    List<PokemonSummaryProjection> findByAbilityNameAfter(@Param("abilityName") String abilityName, @Param("after") Long after, Pageable pageable);
+
+    /**
+     * 특정 타입을 가진 포켓몬 수
+     */
+    @Query("SELECT COUNT(DISTINCT p) FROM Pokemon p " +
             "JOIN p.types pt " +
             "JOIN pt.type t " +
             "WHERE t.name = :typeName OR t.koreanName = :typeName")
-    Page<Pokemon> findByTypeName(@Param("typeName") String typeName, Pageable pageable);
+    long countByTypeName(@Param("typeName") String typeName);
 
     /**
-     * 특정 특성을 가진 포켓몬들 조회
+     * 특정 특성을 가진 포켓몬 수
      */
-    @Query("SELECT DISTINCT p FROM Pokemon p " +
+    @Query("SELECT COUNT(DISTINCT p) FROM Pokemon p " +
             "JOIN p.abilities pa " +
             "JOIN pa.ability a " +
             "WHERE a.name = :abilityName OR a.koreanName = :abilityName")
-    Page<Pokemon> findByAbilityName(@Param("abilityName") String abilityName, Pageable pageable);
+    long countByAbilityName(@Param("abilityName") String abilityName);
 
     /**
      * 숨겨진 특성을 가진 포켓몬들 조회
@@ -133,6 +229,41 @@ public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
     @Query("SELECT p FROM Pokemon p WHERE SIZE(p.types) > 1")
     List<Pokemon> findPokemonWithMultipleTypes();
 
+    /**
+     * 한국어/영어 이름 부분 일치 검색 (대소문자 무시, ID 순)
+     * keyword는 escapeLike()로 감싸서 전달 (검색어의 %, _가 와일드카드가 아니라 글자로 비교되도록)
+     */
+    @Query("SELECT p FROM Pokemon p " +
+            "WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' " +
+            "OR LOWER(p.englishName) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' " +
+            "ORDER BY p.id")
+    List<Pokemon> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * LIKE 패턴 특수 문자(\, %, _) 이스케이프 (ESCAPE '\'와 함께 사용)
+     */
+    static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 한국어/영어 이름 목록에 해당하는 ID 조회 (이름은 소문자로 전달, 여러 포켓몬 조회용)
+     */
+    @Query("SELECT p.id FROM Pokemon p WHERE LOWER(p.name) IN :names OR LOWER(p.englishName) IN :names")
+    List<Long> findIdsByNameIn(@Param("names") List<String> names);
+
+    /**
+     * 저장된 전체 ID 조회 (초기 로드 중복 확인용)
+     */
+    @Query("SELECT p.id FROM Pokemon p")
+    List<Long> findAllIds();
+
+    /**
+     * ID 목록 중 이미 저장된 ID 조회 (쓰기 지연 저장 중복 확인용)
+     */
+    @Query("SELECT p.id FROM Pokemon p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 최대 ID 조회
      */
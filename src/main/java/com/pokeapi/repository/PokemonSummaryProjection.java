@@ -0,0 +1,12 @@
+package com.pokeapi.repository;
+
+/**
+ * 목록 요약용 프로젝션 (ID, 이름만 조회)
+ * 엔티티를 만들지 않으므로 영속성 컨텍스트/스냅샷 비교 비용이 없습니다
+ */
+public interface PokemonSummaryProjection {
+
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,305 @@
+package com.pokeapi.service;
+
+import com.pokeapi.util.PokedexBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오프라인 데이터셋 번들 내보내기/가져오기
+ *
+ * 내보내기: 다섯 테이블을 JDBC로 읽어 PokedexBundle 파일로 저장
+ * 가져오기: 번들을 메모리 매핑으로 읽고 테이블마다 한 번의 JDBC 배치 INSERT로 저장 (PokeAPI 호출 없음)
+ *
+ * 엔티티를 거치지 않으므로 영속성 컨텍스트/더티 체킹 비용이 없고,
+ * 타입/특성 ID를 번들 그대로 유지해서 연결 테이블을 다시 매핑할 필요가 없습니다.
+ */
+@Component
+public class PokedexBundleStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PokedexBundleStore.class);
+
+    /** PokemonType/PokemonAbility @SequenceGenerator의 allocationSize와 같아야 함 */
+    private static final int LINK_ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.data.bundle-file:./data/pokedex.bundle}")
+    private String location;    // 번들 파일 경로 (비우면 사용하지 않음)
+
+    public PokedexBundleStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean exists() {
+        return location != null && !location.isBlank() && Files.isRegularFile(path());
+    }
+
+    /**
+     * 번들 파일을 빈 DB에 일괄 저장
+     * @return 저장한 포켓몬 수 (파일이 없거나 포맷 버전이 다르면 0)
+     */
+    @Transactional
+    public int importBundle() {
+        if (!exists()) {
+            return 0;
+        }
+
+        long start = System.currentTimeMillis();
+        PokedexBundle bundle;
+        try {
+            bundle = PokedexBundle.read(path());
+        } catch (IOException | RuntimeException e) {
+            log.warn("데이터셋 번들을 읽을 수 없습니다: {} ({})", path(), e.getMessage());
+            return 0;
+        }
+        if (bundle == null) {
+            log.warn("데이터셋 번들 포맷 버전이 달라 사용하지 않습니다: {}", path());
+            return 0;
+        }
+
+        insertDictionary("types", "updated_at", bundle.types());
+        insertDictionary("abilities", "update_at", bundle.abilities());
+        insertPokemons(bundle.pokemons());
+        insertLinks("INSERT INTO pokemon_types (id, pokemon_id, type_id, slot) VALUES (?, ?, ?, ?)",
+                bundle.pokemonTypes(), false);
+        insertLinks("INSERT INTO pokemon_abilities (id, pokemon_id, ability_id, slot, is_hidden) VALUES (?, ?, ?, ?, ?)",
+                bundle.pokemonAbilities(), true);
+
+        // ID를 직접 넣었으므로 IDENTITY/시퀀스 다음 값을 최대 ID 뒤로 옮김 (H2 문법)
+        restartIdentity("types", bundle.types().ids());
+        restartIdentity("abilities", bundle.abilities().ids());
+        alignLinkSequences();
+
+        log.info("데이터셋 번들 가져오기 완료: 포켓몬 {}마리, 타입 {}개, 특성 {}개 ({}ms)",
+                bundle.pokemons().size(), bundle.types().size(), bundle.abilities().size(),
+                System.currentTimeMillis() - start);
+        return bundle.pokemons().size();
+    }
+
+    /**
+     * 현재 DB 전체를 번들 파일로 저장 (실패해도 기동은 계속 진행)
+     */
+    @Transactional(readOnly = true)
+    public void exportBundle() {
+        if (location == null || location.isBlank()) {
+            return;
+        }
+
+        try {
+            PokedexBundle bundle = new PokedexBundle(
+                    selectDictionary("SELECT id, name, korean_name FROM types ORDER BY id"),
+                    selectDictionary("SELECT id, name, korean_name FROM abilities ORDER BY id"),
+                    selectPokemons(),
+                    selectLinks("SELECT pokemon_id, type_id, slot, FALSE FROM pokemon_types ORDER BY pokemon_id, slot"),
+                    selectLinks("SELECT pokemon_id, ability_id, slot, is_hidden FROM pokemon_abilities ORDER BY pokemon_id, slot"));
+            if (bundle.pokemons().size() == 0) {
+                return;
+            }
+
+            long bytes = bundle.write(path());
+            log.info("데이터셋 번들 저장: {} (포켓몬 {}마리, {}B)", path(), bundle.pokemons().size(), bytes);
+        } catch (IOException | RuntimeException e) {
+            log.warn("데이터셋 번들 저장 실패: {} ({})", path(), e.getMessage());
+        }
+    }
+
+    private void insertDictionary(String table, String updatedColumn, PokedexBundle.Dictionary dictionary) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (id, name, korean_name, created_at, " + updatedColumn + ")"
+                        + " VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, dictionary.ids()[i]);
+                        ps.setString(2, dictionary.names()[i]);
+                        ps.setString(3, dictionary.koreanNames()[i]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return dictionary.size();
+                    }
+                });
+    }
+
+    private void insertPokemons(PokedexBundle.Pokemons pokemons) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO pokemon (id, name, english_name, height, weight, sprite_url, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, COALESCE(?, CURRENT_TIMESTAMP))",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, pokemons.ids()[i]);
+                        ps.setString(2, pokemons.names()[i]);
+                        ps.setString(3, pokemons.englishNames()[i]);
+                        setNullableInt(ps, 4, pokemons.heights()[i]);
+                        setNullableInt(ps, 5, pokemons.weights()[i]);
+                        ps.setString(6, pokemons.spriteUrls()[i]);
+                        // 번들을 만든 DB의 변경 시각을 그대로 유지 (Last-Modified가 가져온 시각으로 바뀌지 않도록)
+                        long updatedAt = pokemons.updatedAts()[i];
+                        if (updatedAt == PokedexBundle.NULL_LONG) {
+                            ps.setNull(7, Types.TIMESTAMP);
+                        } else {
+                            ps.setTimestamp(7, new Timestamp(updatedAt));
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return pokemons.size();
+                    }
+                });
+    }
+
+    private void insertLinks(String sql, PokedexBundle.Links links, boolean withHidden) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, i + 1);   // 빈 테이블에만 가져오므로 행 순서대로 1부터
+                ps.setLong(2, links.pokemonIds()[i]);
+                ps.setLong(3, links.targetIds()[i]);
+                ps.setInt(4, links.slots()[i]);
+                if (withHidden) {
+                    ps.setBoolean(5, links.hidden()[i]);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return links.size();
+            }
+        });
+    }
+
+    private void restartIdentity(String table, long[] ids) {
+        long maxId = 0;
+        for (long id : ids) {
+            maxId = Math.max(maxId, id);
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId + 1));
+    }
+
+    /**
+     * 연결 테이블 ID 시퀀스를 저장된 최대 ID 뒤로 옮김
+     * IDENTITY로 만들어진 기존 DB나 번들 가져오기처럼 시퀀스를 거치지 않고 들어간 행과 ID가 겹치지 않게 합니다
+     * (pooled 옵티마이저는 시퀀스 값을 할당 구간의 끝으로 쓰므로 최대 ID + allocationSize로 맞춤)
+     */
+    @Transactional
+    public void alignLinkSequences() {
+        restartSequence("pokemon_types");
+        restartSequence("pokemon_abilities");
+    }
+
+    /**
+     * 시퀀스 다음 값이 최대 ID + allocationSize보다 작을 때만 앞으로 옮김 (뒤로 되돌리지 않음)
+     * 다른 노드나 쓰기 지연 저장이 이미 최대 ID보다 위의 구간을 받아 두었을 수 있으므로,
+     * 매 기동마다 되돌리면 이미 나눠 준 ID를 다시 나눠 주게 됩니다
+     * (INFORMATION_SCHEMA.SEQUENCES.BASE_VALUE와 ALTER SEQUENCE ... RESTART WITH는 H2 문법)
+     */
+    private void restartSequence(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long target = maxId + LINK_ID_ALLOCATION_SIZE;
+        Long next = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                Long.class, table + "_seq");
+        if (next != null && next >= target) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + target);
+    }
+
+    private PokedexBundle.Dictionary selectDictionary(String sql) {
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> koreanNames = new ArrayList<>();
+        jdbcTemplate.query(sql, (ResultSet rs) -> {
+            ids.add(rs.getLong(1));
+            names.add(rs.getString(2));
+            koreanNames.add(rs.getString(3));
+        });
+        return new PokedexBundle.Dictionary(toLongs(ids), names.toArray(new String[0]), koreanNames.toArray(new String[0]));
+    }
+
+    private PokedexBundle.Pokemons selectPokemons() {
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> englishNames = new ArrayList<>();
+        List<Integer> heights = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        List<String> spriteUrls = new ArrayList<>();
+        List<Long> updatedAts = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, name, english_name, height, weight, sprite_url, updated_at FROM pokemon ORDER BY id", (ResultSet rs) -> {
+            ids.add(rs.getLong(1));
+            names.add(rs.getString(2));
+            englishNames.add(rs.getString(3));
+            heights.add(getNullableInt(rs, 4));
+            weights.add(getNullableInt(rs, 5));
+            spriteUrls.add(rs.getString(6));
+            Timestamp updatedAt = rs.getTimestamp(7);
+            updatedAts.add(updatedAt != null ? updatedAt.getTime() : PokedexBundle.NULL_LONG);
+        });
+        return new PokedexBundle.Pokemons(toLongs(ids), names.toArray(new String[0]), englishNames.toArray(new String[0]),
+                toInts(heights), toInts(weights), spriteUrls.toArray(new String[0]), toLongs(updatedAts));
+    }
+
+    private PokedexBundle.Links selectLinks(String sql) {
+        List<Long> pokemonIds = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<Boolean> hidden = new ArrayList<>();
+        jdbcTemplate.query(sql, (ResultSet rs) -> {
+            pokemonIds.add(rs.getLong(1));
+            targetIds.add(rs.getLong(2));
+            slots.add(rs.getInt(3));
+            hidden.add(rs.getBoolean(4));
+        });
+
+        boolean[] hiddenArray = new boolean[hidden.size()];
+        for (int i = 0; i < hiddenArray.length; i++) {
+            hiddenArray[i] = hidden.get(i);
+        }
+        return new PokedexBundle.Links(toLongs(pokemonIds), toLongs(targetIds), toInts(slots), hiddenArray);
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, int value) throws SQLException {
+        if (value == PokedexBundle.NULL_INT) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    private static int getNullableInt(ResultSet rs, int index) throws SQLException {
+        int value = rs.getInt(index);
+        return rs.wasNull() ? PokedexBundle.NULL_INT : value;
+    }
+
+    private static long[] toLongs(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static int[] toInts(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private Path path() {
+        return Paths.get(location);
+    }
+}
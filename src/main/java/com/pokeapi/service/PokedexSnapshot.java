@@ -0,0 +1,324 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.Ability;
+import com.pokeapi.model.PokemonFacetResponse;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.ReadOnlyPokemonResponse;
+import com.pokeapi.model.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 포켓몬 도감 불변 스냅샷
+ *
+ * - byId: 포켓몬 ID를 인덱스로 사용하는 배열 (없는 ID는 null)
+ * - idsByName: 한국어 이름 / 영어 이름(소문자) -> ID
+ *   (별칭은 ID만 가리키므로 "25", "피카츄", "Pikachu"가 모두 같은 응답 객체를 반환)
+ * - searchIndex: 이름 부분/앞부분/초성 검색용 n-gram 인덱스
+ * - filterIndex: 타입/특성 필터용 비트맵 역색인
+ * - columns: 키/몸무게 범위 조회와 정렬용 컬럼 배열
+ * - fingerprint: 포켓몬별 내용 해시의 합 (같은 데이터면 노드/재시작과 관계없이 같은 값, 조건부 요청의 ETag로 사용)
+ * - lastModified: 포켓몬 updatedAt 중 가장 늦은 값 (스냅샷을 만든 시각이 아니라 데이터에서 나오므로 Last-Modified로 사용)
+ *
+ * 한 번 만들어진 스냅샷은 변경하지 않습니다. (전체 facet 개수만 처음 요청할 때 계산해서 함께 보관)
+ * 포켓몬 응답도 ReadOnlyPokemonResponse 복사본으로 보관하므로, 꺼내 간 쪽에서 바꾸려 하면 예외가 나고
+ * 스냅샷을 만들 때 넘긴 원본을 나중에 바꿔도 스냅샷에는 영향이 없습니다.
+ * 새 포켓몬이 추가되면 복사본을 만들어 PokedexSnapshotManager가 통째로 교체합니다.
+ */
+public final class PokedexSnapshot {
+
+    private static final PokedexSnapshot EMPTY =
+            new PokedexSnapshot(0L, -1L, new PokemonResponse[0], Collections.emptyMap(), PokemonSearchIndex.empty(),
+                    PokemonFilterIndex.empty(), PokemonColumns.empty(), 0, 0L);
+
+    private final long version;
+    private final long lastModified;
+    private final PokemonResponse[] byId;
+    private final Map<String, Integer> idsByName;
+    private final PokemonSearchIndex searchIndex;
+    private final PokemonFilterIndex filterIndex;
+    private final PokemonColumns columns;
+    private final int size;
+    private final long fingerprint;
+    private volatile PokemonFacetResponse facets;
+
+    private PokedexSnapshot(long version, long lastModified, PokemonResponse[] byId,
+                            Map<String, Integer> idsByName, PokemonSearchIndex searchIndex,
+                            PokemonFilterIndex filterIndex, PokemonColumns columns, int size, long fingerprint) {
+        this.version = version;
+        this.lastModified = lastModified;
+        this.byId = byId;
+        this.idsByName = idsByName;
+        this.searchIndex = searchIndex;
+        this.filterIndex = filterIndex;
+        this.columns = columns;
+        this.size = size;
+        this.fingerprint = fingerprint;
+    }
+
+    public static PokedexSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 포켓몬 목록으로 새 스냅샷 생성
+     */
+    public static PokedexSnapshot of(Collection<PokemonResponse> pokemons, long version) {
+        int maxId = 0;
+        for (PokemonResponse pokemon : pokemons) {
+            maxId = Math.max(maxId, pokemon.getId());
+        }
+
+        PokemonResponse[] byId = new PokemonResponse[maxId + 1];
+        Map<String, Integer> idsByName = new HashMap<>(pokemons.size() * 4);
+        int size = 0;
+        for (PokemonResponse source : pokemons) {
+            PokemonResponse pokemon = ReadOnlyPokemonResponse.copyOf(source);
+            if (byId[pokemon.getId()] == null) {
+                size++;
+            }
+            byId[pokemon.getId()] = pokemon;
+            putNames(idsByName, pokemon);
+        }
+
+        List<PokemonResponse> indexed = new ArrayList<>(size);
+        long fingerprint = 0L;
+        long lastModified = -1L;
+        for (PokemonResponse pokemon : byId) {
+            if (pokemon != null) {
+                indexed.add(pokemon);
+                fingerprint += contentHash(pokemon);
+                lastModified = Math.max(lastModified, updatedAtOf(pokemon));
+            }
+        }
+        return new PokedexSnapshot(version, lastModified, byId, Collections.unmodifiableMap(idsByName),
+                PokemonSearchIndex.of(indexed), PokemonFilterIndex.of(indexed), PokemonColumns.of(byId), size, fingerprint);
+    }
+
+    /**
+     * 포켓몬 한 마리를 추가(또는 교체)한 새 스냅샷 반환 (copy-on-write)
+     */
+    public PokedexSnapshot with(PokemonResponse source) {
+        PokemonResponse pokemon = ReadOnlyPokemonResponse.copyOf(source);
+        int id = pokemon.getId();
+        PokemonResponse[] newById = Arrays.copyOf(byId, Math.max(byId.length, id + 1));
+        PokemonResponse previous = newById[id];
+        newById[id] = pokemon;
+
+        Map<String, Integer> newIdsByName = new HashMap<>(idsByName);
+        if (previous != null) {
+            newIdsByName.remove(aliasOf(previous.getName()), id);
+            newIdsByName.remove(aliasOf(previous.getEnglishName()), id);
+        }
+        putNames(newIdsByName, pokemon);
+
+        int newSize = previous == null ? size + 1 : size;
+        long newFingerprint = fingerprint + contentHash(pokemon) - (previous != null ? contentHash(previous) : 0L);
+        return new PokedexSnapshot(version + 1, Math.max(lastModified, updatedAtOf(pokemon)), newById,
+                Collections.unmodifiableMap(newIdsByName), searchIndex.with(pokemon),
+                filterIndex.with(pokemon, previous), columns.with(newById, pokemon, previous), newSize, newFingerprint);
+    }
+
+    private static long updatedAtOf(PokemonResponse pokemon) {
+        return pokemon.getUpdatedAt() != null ? pokemon.getUpdatedAt() : -1L;
+    }
+
+    private static void putNames(Map<String, Integer> idsByName, PokemonResponse pokemon) {
+        if (pokemon.getName() != null) {
+            idsByName.put(aliasOf(pokemon.getName()), pokemon.getId());
+        }
+        if (pokemon.getEnglishName() != null) {
+            idsByName.put(aliasOf(pokemon.getEnglishName()), pokemon.getId());
+        }
+    }
+
+    /**
+     * 포켓몬 응답 내용 해시 (64비트, 필드 순서 고정)
+     */
+    static long contentHash(PokemonResponse pokemon) {
+        long hash = pokemon.getId();
+        hash = 31 * hash + Objects.hashCode(pokemon.getName());
+        hash = 31 * hash + Objects.hashCode(pokemon.getEnglishName());
+        hash = 31 * hash + pokemon.getHeight();
+        hash = 31 * hash + pokemon.getWeight();
+        hash = 31 * hash + (pokemon.getSprites() != null ? Objects.hashCode(pokemon.getSprites().getFront_default()) : 0);
+        if (pokemon.getTypes() != null) {
+            for (Type type : pokemon.getTypes()) {
+                hash = 31 * hash + type.getSlot();
+                hash = 31 * hash + (type.getType() != null ? Objects.hashCode(type.getType().getName()) : 0);
+            }
+        }
+        if (pokemon.getAbilities() != null) {
+            for (Ability ability : pokemon.getAbilities()) {
+                hash = 31 * hash + ability.getSlot();
+                hash = 31 * hash + (ability.isHidden() ? 1 : 0);
+                hash = 31 * hash + (ability.getAbility() != null ? Objects.hashCode(ability.getAbility().getName()) : 0);
+            }
+        }
+
+        // splitmix64 마무리 (합산해도 비슷한 포켓몬끼리 상쇄되지 않도록 비트를 섞음)
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * 별칭 키 정규화 (앞뒤 공백 제거, 소문자)
+     */
+    private static String aliasOf(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * ID로 조회 (없으면 null)
+     */
+    public PokemonResponse get(int id) {
+        return id > 0 && id < byId.length ? byId[id] : null;
+    }
+
+    /**
+     * 이름(한국어/영어, 대소문자 무시) 또는 ID 문자열로 조회 (없으면 null)
+     */
+    public PokemonResponse find(String nameOrId) {
+        if (nameOrId == null) {
+            return null;
+        }
+        String alias = aliasOf(nameOrId);
+        Integer id = idsByName.get(alias);
+        if (id != null) {
+            return byId[id];
+        }
+        return get(parseId(alias));
+    }
+
+    /**
+     * 이름 검색 (한국어/영어 부분 일치, 초성 검색 지원)
+     */
+    public List<PokemonResponse> search(String query, int limit) {
+        List<Integer> ids = searchIndex.search(query, limit);
+        List<PokemonResponse> result = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            result.add(byId[id]);
+        }
+        return result;
+    }
+
+    /**
+     * 타입/특성 조건에 맞는 포켓몬 ID 비트맵 (PokemonFilterIndex.count/ids로 개수와 페이지 계산)
+     */
+    public long[] filter(PokemonFilterIndex.Query query) {
+        return filterIndex.select(query);
+    }
+
+    /**
+     * 전체 포켓몬의 facet 개수 (스냅샷마다 한 번만 계산)
+     * 계산해 둔 응답은 모든 요청이 공유하므로 호출할 때마다 복사본을 반환합니다
+     */
+    public PokemonFacetResponse facets() {
+        PokemonFacetResponse result = facets;
+        if (result == null) {
+            result = facets(filter(PokemonFilterIndex.Query.of(null, null, null)));
+            facets = result;
+        }
+        return PokemonFacetResponse.copyOf(result);
+    }
+
+    /**
+     * within 비트맵 안의 facet 개수 (타입/특성별 개수는 비트맵 교집합의 popcount, 키/몸무게는 정렬된 컬럼에서 구간별로 셈)
+     */
+    public PokemonFacetResponse facets(long[] within) {
+        int count = PokemonFilterIndex.count(within);
+        int hidden = filterIndex.hiddenAbilityCount(within);
+        int multi = filterIndex.multiTypeCount(within);
+
+        PokemonFacetResponse response = new PokemonFacetResponse();
+        response.setCount(count);
+        response.setTypes(filterIndex.typeCounts(within));
+        response.setAbilities(filterIndex.abilityCounts(within));
+        response.getHiddenAbility().put("true", hidden);
+        response.getHiddenAbility().put("false", count - hidden);
+        response.getMultiType().put("true", multi);
+        response.getMultiType().put("false", count - multi);
+        response.setHeight(buckets(PokemonColumns.HEIGHT_BUCKETS, columns.heightHistogram(within)));
+        response.setWeight(buckets(PokemonColumns.WEIGHT_BUCKETS, columns.weightHistogram(within)));
+        return response;
+    }
+
+    private static List<PokemonFacetResponse.Bucket> buckets(int[] edges, int[] counts) {
+        List<PokemonFacetResponse.Bucket> buckets = new ArrayList<>(edges.length);
+        for (int i = 0; i < edges.length; i++) {
+            buckets.add(new PokemonFacetResponse.Bucket(edges[i], i + 1 < edges.length ? edges[i + 1] : null, counts[i]));
+        }
+        return buckets;
+    }
+
+    /**
+     * 키/몸무게 범위 조회와 정렬용 컬럼
+     */
+    public PokemonColumns columns() {
+        return columns;
+    }
+
+    /**
+     * ID 순서대로 정렬된 전체 목록
+     */
+    public List<PokemonResponse> all() {
+        List<PokemonResponse> result = new ArrayList<>(size);
+        for (PokemonResponse pokemon : byId) {
+            if (pokemon != null) {
+                result.add(pokemon);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 숫자가 아니면 -1 (NumberFormatException을 던지지 않기 위해 직접 파싱)
+     */
+    private static int parseId(String value) {
+        int length = value.length();
+        if (length == 0 || length > 9) {
+            return -1;
+        }
+        int id = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 데이터셋 마지막 변경 시각 (epoch 밀리초, 알 수 없으면 -1)
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.pokeapi.service;
+
+import com.pokeapi.entity.Pokemon;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.repository.PokemonRepository;
+import com.pokeapi.util.PokemonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 도감 스냅샷 관리자
+ *
+ * 읽기: AtomicReference에서 현재 스냅샷을 꺼내 배열 조회 (락 없음, Hibernate 세션 없음)
+ * 쓰기: 초기 로드 후 rebuild(), 새 포켓몬 저장 시 새 스냅샷으로 교체
+ */
+@Component
+public class PokedexSnapshotManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PokedexSnapshotManager.class);
+
+    private final PokemonRepository pokemonRepository;
+
+    private final AtomicReference<PokedexSnapshot> current = new AtomicReference<>(PokedexSnapshot.empty());
+
+    public PokedexSnapshotManager(PokemonRepository pokemonRepository) {
+        this.pokemonRepository = pokemonRepository;
+    }
+
+    /**
+     * DB 전체를 읽어 스냅샷을 새로 만듭니다
+     * 타입/특성을 각각 fetch join 하여 (MultipleBagFetchException 방지) 같은 영속성 컨텍스트에서 합칩니다
+     */
+    @Transactional(readOnly = true)
+    public PokedexSnapshot rebuild() {
+        long start = System.currentTimeMillis();
+
+        List<Pokemon> pokemons = pokemonRepository.findAllWithTypes();
+        pokemonRepository.findAllWithAbilities();
+
+        List<PokemonResponse> responses = pokemons.stream()
+                .map(PokemonMapper::toResponse)
+                .collect(Collectors.toList());
+
+        PokedexSnapshot snapshot = PokedexSnapshot.of(responses, current.get().getVersion() + 1);
+        current.set(snapshot);
+
+        log.info("도감 스냅샷 생성 완료: {}마리 (버전: {}, {}ms)",
+                snapshot.size(), snapshot.getVersion(), System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    /**
+     * 새로 저장된 포켓몬을 스냅샷에 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPokemonSaved(PokemonSavedEvent event) {
+        PokemonResponse pokemon = event.getPokemon();
+        PokedexSnapshot updated = current.updateAndGet(snapshot -> snapshot.with(pokemon));
+        log.debug("도감 스냅샷 갱신: {} (ID: {}, 버전: {})", pokemon.getName(), pokemon.getId(), updated.getVersion());
+    }
+
+    /**
+     * 이름(한국어/영어) 또는 ID로 조회
+     */
+    public Optional<PokemonResponse> find(String nameOrId) {
+        return Optional.ofNullable(current.get().find(nameOrId));
+    }
+
+    public PokedexSnapshot current() {
+        return current.get();
+    }
+}
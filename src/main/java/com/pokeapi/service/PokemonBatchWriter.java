@@ -0,0 +1,132 @@
+package com.pokeapi.service;
+
+import com.pokeapi.entity.Pokemon;
+import com.pokeapi.entity.PokemonAbility;
+import com.pokeapi.entity.PokemonType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포켓몬 묶음 저장기
+ *
+ * 한 트랜잭션에서 persist 후 한 번에 flush하여
+ * hibernate.jdbc.batch_size 단위의 JDBC 배치 INSERT가 나가도록 합니다.
+ * (save()는 ID가 지정된 엔티티를 merge 하므로 저장 전 SELECT가 한 번씩 더 나감)
+ */
+@Component
+public class PokemonBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonBatchWriter.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate newTransaction;
+
+    public PokemonBatchWriter(PlatformTransactionManager transactionManager) {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public void persistAll(List<Pokemon> pokemons) {
+        for (Pokemon pokemon : pokemons) {
+            entityManager.persist(pokemon);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 한 트랜잭션으로 묶어 저장하고, 실패하면 한 마리씩 따로 저장
+     * 잘못된 행 하나 때문에 같은 묶음의 나머지 포켓몬까지 버리지 않도록 합니다 (실패한 포켓몬만 로그를 남기고 건너뜀)
+     * @return 저장된 포켓몬 수
+     */
+    public int persistAllOrEach(List<Pokemon> pokemons) {
+        return persistAllOrEach(pokemons, pokemon -> { });
+    }
+
+    /**
+     * persistAllOrEach와 같고, 커밋된 포켓몬마다 커밋 직후(트랜잭션 밖에서) onSaved를 호출
+     * 커넥션/트랜잭션을 얻지 못하는 등 행과 관계없는 오류는 건너뛰지 않고 그대로 던집니다
+     * (그 전에 커밋된 포켓몬은 이미 onSaved로 알린 상태)
+     * @return 저장된 포켓몬 수
+     */
+    public int persistAllOrEach(List<Pokemon> pokemons, Consumer<Pokemon> onSaved) {
+        try {
+            newTransaction.executeWithoutResult(status -> persistAll(pokemons));
+            pokemons.forEach(onSaved);
+            return pokemons.size();
+        } catch (RuntimeException e) {
+            if (isTransientFailure(e)) {
+                throw e;
+            }
+            log.warn("포켓몬 {}마리 묶음 저장 실패, 한 마리씩 다시 저장: {}", pokemons.size(), e.getMessage());
+        }
+
+        int saved = 0;
+        for (Pokemon pokemon : pokemons) {
+            resetForRetry(pokemon);
+            try {
+                newTransaction.executeWithoutResult(status -> persistAll(List.of(pokemon)));
+            } catch (RuntimeException e) {
+                if (isTransientFailure(e)) {
+                    throw e;
+                }
+                log.error("포켓몬 저장 실패: {} (ID: {}) - {}", pokemon.getName(), pokemon.getId(), e.getMessage());
+                continue;
+            }
+            onSaved.accept(pokemon);
+            saved++;
+        }
+        return saved;
+    }
+
+    /**
+     * 특정 행이 아니라 DB 연결/트랜잭션 문제로 난 실패인지 (다시 시도하면 성공할 수 있는 실패)
+     */
+    static boolean isTransientFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 롤백된 persist에서 시퀀스로 받은 연결 행 ID를 지우고, Hibernate가 감싼 컬렉션을 일반 목록으로 되돌림
+     * (그대로 다시 persist하면 ID가 있는 분리(detached) 엔티티로 취급됨)
+     */
+    private static void resetForRetry(Pokemon pokemon) {
+        List<PokemonType> types = new ArrayList<>(pokemon.getTypes());
+        types.forEach(pokemonType -> pokemonType.setId(null));
+        pokemon.setTypes(types);
+
+        List<PokemonAbility> abilities = new ArrayList<>(pokemon.getAbilities());
+        abilities.forEach(pokemonAbility -> pokemonAbility.setId(null));
+        pokemon.setAbilities(abilities);
+    }
+}
@@ -0,0 +1,310 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 포켓몬 수치/정렬 컬럼 (불변)
+ *
+ * - idsBy*: 정렬 기준별 포켓몬 ID 순서 (값이 같으면 ID 순)
+ * - heights/weights: idsByHeight/idsByWeight와 같은 순서로 정렬된 키/몸무게 값
+ *
+ * 키/몸무게 범위는 정렬된 값 배열에서 이진 탐색으로 구간을 찾아 비트맵으로 만들고,
+ * 정렬 조회는 원하는 순서의 ID 배열을 따라가며 조건 비트맵에 있는 ID만 고릅니다.
+ * 엔티티나 컬렉션을 거치지 않고 int[]만 훑으므로 전체 도감에서도 1ms 미만입니다.
+ */
+public final class PokemonColumns {
+
+    /**
+     * 정렬 기준 ("-"를 붙이면 내림차순, 예: "-weight")
+     */
+    public enum SortKey { ID, NAME, HEIGHT, WEIGHT }
+
+    /** 키 구간 경계 (데시미터, 0.5m 단위 ~ 3m 이상) */
+    public static final int[] HEIGHT_BUCKETS = {0, 5, 10, 15, 20, 30};
+
+    /** 몸무게 구간 경계 (헥토그램, 10kg ~ 200kg 이상) */
+    public static final int[] WEIGHT_BUCKETS = {0, 100, 250, 500, 1000, 2000};
+
+    private static final int[] NO_IDS = new int[0];
+
+    private static final PokemonColumns EMPTY = new PokemonColumns(NO_IDS, NO_IDS, NO_IDS, NO_IDS, NO_IDS, NO_IDS);
+
+    private final int[] idsById;
+    private final int[] idsByName;
+    private final int[] idsByHeight;
+    private final int[] heights;
+    private final int[] idsByWeight;
+    private final int[] weights;
+
+    private PokemonColumns(int[] idsById, int[] idsByName,
+                           int[] idsByHeight, int[] heights, int[] idsByWeight, int[] weights) {
+        this.idsById = idsById;
+        this.idsByName = idsByName;
+        this.idsByHeight = idsByHeight;
+        this.heights = heights;
+        this.idsByWeight = idsByWeight;
+        this.weights = weights;
+    }
+
+    public static PokemonColumns empty() {
+        return EMPTY;
+    }
+
+    /**
+     * ID를 인덱스로 쓰는 포켓몬 배열로 컬럼 생성 (null은 건너뜀, 정렬 세 번)
+     * 스냅샷을 처음 만들 때만 쓰고, 포켓몬이 하나씩 추가될 때는 with()로 기존 배열에 끼워 넣습니다
+     */
+    public static PokemonColumns of(PokemonResponse[] byId) {
+        List<PokemonResponse> pokemons = new ArrayList<>(byId.length);
+        for (PokemonResponse pokemon : byId) {
+            if (pokemon != null) {
+                pokemons.add(pokemon);
+            }
+        }
+
+        int[] idsById = idsOf(pokemons);
+        pokemons.sort(Comparator.comparing((PokemonResponse pokemon) -> nameKey(pokemon))
+                .thenComparingInt(PokemonResponse::getId));
+        int[] idsByName = idsOf(pokemons);
+
+        pokemons.sort(Comparator.comparingInt(PokemonResponse::getHeight).thenComparingInt(PokemonResponse::getId));
+        int[] idsByHeight = idsOf(pokemons);
+        int[] heights = pokemons.stream().mapToInt(PokemonResponse::getHeight).toArray();
+
+        pokemons.sort(Comparator.comparingInt(PokemonResponse::getWeight).thenComparingInt(PokemonResponse::getId));
+        int[] idsByWeight = idsOf(pokemons);
+        int[] weights = pokemons.stream().mapToInt(PokemonResponse::getWeight).toArray();
+
+        return new PokemonColumns(idsById, idsByName, idsByHeight, heights, idsByWeight, weights);
+    }
+
+    /**
+     * 포켓몬 한 마리를 추가(또는 교체)한 새 컬럼 반환
+     * 다시 정렬하지 않고, 정렬 기준마다 이진 탐색으로 자리를 찾아 System.arraycopy로 끼워 넣습니다 (교체면 이전 자리를 먼저 뺌)
+     * @param byId 추가할 포켓몬이 이미 들어간 ID 배열 (다른 포켓몬의 이름을 비교할 때 사용)
+     * @param previous 같은 ID로 있던 포켓몬 (없으면 null)
+     */
+    public PokemonColumns with(PokemonResponse[] byId, PokemonResponse pokemon, PokemonResponse previous) {
+        int id = pokemon.getId();
+
+        int[] newIdsById = idsById;
+        if (previous == null) {
+            int at = Arrays.binarySearch(idsById, id);
+            if (at < 0) {
+                newIdsById = insert(idsById, -at - 1, id);
+            }
+        }
+
+        int[] newIdsByName = without(idsByName, id);
+        String key = nameKey(pokemon);
+        int low = 0;
+        int high = newIdsByName.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int other = newIdsByName[mid];
+            int compared = nameKey(byId[other]).compareTo(key);
+            if (compared < 0 || (compared == 0 && other < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        newIdsByName = insert(newIdsByName, low, id);
+
+        int heightAt = indexOf(idsByHeight, id);
+        int[] newIdsByHeight = remove(idsByHeight, heightAt);
+        int[] newHeights = remove(heights, heightAt);
+        int heightTo = positionOf(newIdsByHeight, newHeights, pokemon.getHeight(), id);
+        newIdsByHeight = insert(newIdsByHeight, heightTo, id);
+        newHeights = insert(newHeights, heightTo, pokemon.getHeight());
+
+        int weightAt = indexOf(idsByWeight, id);
+        int[] newIdsByWeight = remove(idsByWeight, weightAt);
+        int[] newWeights = remove(weights, weightAt);
+        int weightTo = positionOf(newIdsByWeight, newWeights, pokemon.getWeight(), id);
+        newIdsByWeight = insert(newIdsByWeight, weightTo, id);
+        newWeights = insert(newWeights, weightTo, pokemon.getWeight());
+
+        return new PokemonColumns(newIdsById, newIdsByName, newIdsByHeight, newHeights, newIdsByWeight, newWeights);
+    }
+
+    /**
+     * (값, ID) 순으로 정렬된 컬럼에서 (value, id)가 들어갈 자리
+     */
+    private static int positionOf(int[] ids, int[] values, int value, int id) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value || (values[mid] == value && ids[mid] < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int indexOf(int[] ids, int id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] without(int[] ids, int id) {
+        return remove(ids, indexOf(ids, id));
+    }
+
+    /**
+     * index 자리를 뺀 복사본 (index가 -1이면 그대로)
+     */
+    private static int[] remove(int[] values, int index) {
+        if (index < 0) {
+            return values;
+        }
+        int[] removed = new int[values.length - 1];
+        System.arraycopy(values, 0, removed, 0, index);
+        System.arraycopy(values, index + 1, removed, index, values.length - index - 1);
+        return removed;
+    }
+
+    /**
+     * index 자리에 value를 끼워 넣은 복사본
+     */
+    private static int[] insert(int[] values, int index, int value) {
+        int[] inserted = new int[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, index);
+        inserted[index] = value;
+        System.arraycopy(values, index, inserted, index + 1, values.length - index);
+        return inserted;
+    }
+
+    /**
+     * 키가 [min, max]를 벗어나는 포켓몬을 비트맵에서 제거 (null이면 해당 쪽 제한 없음)
+     */
+    public void retainHeight(long[] bits, Integer min, Integer max) {
+        retainRange(bits, idsByHeight, heights, min, max);
+    }
+
+    /**
+     * 몸무게가 [min, max]를 벗어나는 포켓몬을 비트맵에서 제거 (null이면 해당 쪽 제한 없음)
+     */
+    public void retainWeight(long[] bits, Integer min, Integer max) {
+        retainRange(bits, idsByWeight, weights, min, max);
+    }
+
+    private static void retainRange(long[] bits, int[] ids, int[] values, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return;
+        }
+        int from = min == null ? 0 : lowerBound(values, min);
+        int to = max == null ? values.length : lowerBound(values, max == Integer.MAX_VALUE ? max : max + 1);
+
+        long[] inRange = new long[bits.length];
+        for (int i = from; i < to; i++) {
+            int id = ids[i];
+            if ((id >>> 6) < inRange.length) {
+                inRange[id >>> 6] |= 1L << (id & 63);
+            }
+        }
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] &= inRange[i];
+        }
+    }
+
+    /**
+     * within 안의 키 구간별 포켓몬 수 (HEIGHT_BUCKETS 순서)
+     */
+    public int[] heightHistogram(long[] within) {
+        return histogram(idsByHeight, heights, within, HEIGHT_BUCKETS);
+    }
+
+    /**
+     * within 안의 몸무게 구간별 포켓몬 수 (WEIGHT_BUCKETS 순서)
+     */
+    public int[] weightHistogram(long[] within) {
+        return histogram(idsByWeight, weights, within, WEIGHT_BUCKETS);
+    }
+
+    /**
+     * 값이 정렬되어 있으므로 구간 경계를 한 방향으로만 넘기며 한 번에 셈
+     */
+    private static int[] histogram(int[] ids, int[] values, long[] within, int[] edges) {
+        int[] counts = new int[edges.length];
+        int bucket = 0;
+        for (int i = 0; i < values.length; i++) {
+            while (bucket + 1 < edges.length && values[i] >= edges[bucket + 1]) {
+                bucket++;
+            }
+            int id = ids[i];
+            if ((id >>> 6) < within.length && (within[id >>> 6] & (1L << (id & 63))) != 0) {
+                counts[bucket]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 비트맵에 있는 포켓몬을 정렬 기준 순서로 offset개 건너뛰고 최대 limit개의 ID
+     */
+    public List<Integer> page(long[] bits, SortKey sortKey, boolean descending, int offset, int limit) {
+        int[] order = orderOf(sortKey);
+        List<Integer> ids = new ArrayList<>(Math.min(limit, 64));
+        int skip = offset;
+        for (int i = 0; i < order.length && ids.size() < limit; i++) {
+            int id = order[descending ? order.length - 1 - i : i];
+            if ((id >>> 6) >= bits.length || (bits[id >>> 6] & (1L << (id & 63))) == 0) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private int[] orderOf(SortKey sortKey) {
+        switch (sortKey) {
+            case NAME: return idsByName;
+            case HEIGHT: return idsByHeight;
+            case WEIGHT: return idsByWeight;
+            default: return idsById;
+        }
+    }
+
+    /**
+     * values[i] >= key인 첫 위치 (없으면 values.length)
+     */
+    private static int lowerBound(int[] values, int key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] idsOf(List<PokemonResponse> pokemons) {
+        return pokemons.stream().mapToInt(PokemonResponse::getId).toArray();
+    }
+
+    private static String nameKey(PokemonResponse pokemon) {
+        return pokemon.getName() == null ? "" : pokemon.getName().toLowerCase(Locale.ROOT);
+    }
+}
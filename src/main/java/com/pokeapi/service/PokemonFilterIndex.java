@@ -0,0 +1,474 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.Ability;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.Type;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * 타입/특성 필터 인덱스 (비트맵 역색인, 불변)
+ *
+ * - byType: 타입 영어 이름(소문자) -> 해당 타입을 가진 포켓몬 ID 비트맵
+ * - byAbility: 특성 영어 이름(소문자) -> 해당 특성을 가진 포켓몬 ID 비트맵
+ * - hiddenAbility: 숨겨진 특성이 있는 포켓몬 ID 비트맵
+ * - multiType: 타입이 두 개 이상인 포켓몬 ID 비트맵
+ * - all: 전체 포켓몬 ID 비트맵 (NOT 연산의 기준)
+ *
+ * 비트맵은 ID를 비트 위치로 쓰는 long[]이라 전체 도감(약 1,300마리)이 200B 남짓이고,
+ * AND/OR/NOT은 long 단위 비트 연산, 개수는 Long.bitCount()로 계산하므로 조인 없이 마이크로초 단위로 동작합니다.
+ * 한국어 이름은 TypeAbilityDictionary에서 영어 이름으로 바꾼 뒤 조회합니다.
+ */
+public final class PokemonFilterIndex {
+
+    private static final long[] NO_BITS = new long[0];
+
+    private static final PokemonFilterIndex EMPTY =
+            new PokemonFilterIndex(Collections.emptyMap(), Collections.emptyMap(), NO_BITS, NO_BITS, NO_BITS);
+
+    private final Map<String, long[]> byType;
+    private final Map<String, long[]> byAbility;
+    private final long[] hiddenAbility;
+    private final long[] multiType;
+    private final long[] all;
+
+    private PokemonFilterIndex(Map<String, long[]> byType, Map<String, long[]> byAbility,
+                               long[] hiddenAbility, long[] multiType, long[] all) {
+        this.byType = byType;
+        this.byAbility = byAbility;
+        this.hiddenAbility = hiddenAbility;
+        this.multiType = multiType;
+        this.all = all;
+    }
+
+    public static PokemonFilterIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 포켓몬 목록으로 인덱스 생성
+     */
+    public static PokemonFilterIndex of(Collection<PokemonResponse> pokemons) {
+        int maxId = 0;
+        for (PokemonResponse pokemon : pokemons) {
+            maxId = Math.max(maxId, pokemon.getId());
+        }
+        int words = wordsFor(maxId);
+
+        Map<String, long[]> byType = new HashMap<>();
+        Map<String, long[]> byAbility = new HashMap<>();
+        long[] hiddenAbility = new long[words];
+        long[] multiType = new long[words];
+        long[] all = new long[words];
+        for (PokemonResponse pokemon : pokemons) {
+            int id = pokemon.getId();
+            set(all, id);
+            Set<String> types = typeKeysOf(pokemon);
+            for (String type : types) {
+                set(byType.computeIfAbsent(type, key -> new long[words]), id);
+            }
+            if (types.size() > 1) {
+                set(multiType, id);
+            }
+            for (String ability : abilityKeysOf(pokemon)) {
+                set(byAbility.computeIfAbsent(ability, key -> new long[words]), id);
+            }
+            if (hasHiddenAbility(pokemon)) {
+                set(hiddenAbility, id);
+            }
+        }
+        return new PokemonFilterIndex(Collections.unmodifiableMap(byType), Collections.unmodifiableMap(byAbility),
+                hiddenAbility, multiType, all);
+    }
+
+    /**
+     * 포켓몬 한 마리를 추가(또는 교체)한 새 인덱스 반환 (copy-on-write)
+     * 바뀌는 비트맵만 복사하고 나머지는 기존 배열을 그대로 공유합니다
+     */
+    public PokemonFilterIndex with(PokemonResponse pokemon, PokemonResponse previous) {
+        int id = pokemon.getId();
+        int words = Math.max(all.length, wordsFor(id));
+
+        Map<String, long[]> newByType = new HashMap<>(byType);
+        Map<String, long[]> newByAbility = new HashMap<>(byAbility);
+        if (previous != null) {
+            for (String type : typeKeysOf(previous)) {
+                newByType.computeIfPresent(type, (key, bits) -> cleared(bits, id));
+            }
+            for (String ability : abilityKeysOf(previous)) {
+                newByAbility.computeIfPresent(ability, (key, bits) -> cleared(bits, id));
+            }
+        }
+        Set<String> types = typeKeysOf(pokemon);
+        for (String type : types) {
+            newByType.compute(type, (key, bits) -> withBit(bits, id, words));
+        }
+        for (String ability : abilityKeysOf(pokemon)) {
+            newByAbility.compute(ability, (key, bits) -> withBit(bits, id, words));
+        }
+
+        long[] newHiddenAbility = hasHiddenAbility(pokemon)
+                ? withBit(hiddenAbility, id, words)
+                : cleared(hiddenAbility, id);
+        long[] newMultiType = types.size() > 1
+                ? withBit(multiType, id, words)
+                : cleared(multiType, id);
+        return new PokemonFilterIndex(Collections.unmodifiableMap(newByType), Collections.unmodifiableMap(newByAbility),
+                newHiddenAbility, newMultiType, withBit(all, id, words));
+    }
+
+    /**
+     * 조건에 맞는 포켓몬 ID 비트맵 (조건 = 절의 AND, 절 = 이름들의 OR, 절 앞에 !가 있으면 NOT)
+     */
+    public long[] select(Query query) {
+        long[] result = all.clone();
+        for (Clause clause : query.types) {
+            apply(result, union(byType, clause.names), clause.negated);
+        }
+        for (Clause clause : query.abilities) {
+            apply(result, union(byAbility, clause.names), clause.negated);
+        }
+        if (query.hiddenAbility != null) {
+            apply(result, hiddenAbility, !query.hiddenAbility);
+        }
+        if (query.multiType != null) {
+            apply(result, multiType, !query.multiType);
+        }
+        return result;
+    }
+
+    private static long[] union(Map<String, long[]> index, List<String> names) {
+        long[] result = NO_BITS;
+        for (String name : names) {
+            long[] bits = index.get(name);
+            if (bits == null) {
+                continue;
+            }
+            if (result.length < bits.length) {
+                result = Arrays.copyOf(result, bits.length);
+            }
+            for (int i = 0; i < bits.length; i++) {
+                result[i] |= bits[i];
+            }
+        }
+        return result;
+    }
+
+    private static void apply(long[] result, long[] bits, boolean negated) {
+        for (int i = 0; i < result.length; i++) {
+            long word = i < bits.length ? bits[i] : 0L;
+            result[i] &= negated ? ~word : word;
+        }
+    }
+
+    /**
+     * within 안의 타입별 포켓몬 수 (많은 순, 0개인 타입은 생략)
+     */
+    public Map<String, Integer> typeCounts(long[] within) {
+        return counts(byType, within);
+    }
+
+    /**
+     * within 안의 특성별 포켓몬 수 (많은 순, 0개인 특성은 생략)
+     */
+    public Map<String, Integer> abilityCounts(long[] within) {
+        return counts(byAbility, within);
+    }
+
+    /**
+     * within 안에서 숨겨진 특성이 있는 포켓몬 수
+     */
+    public int hiddenAbilityCount(long[] within) {
+        return intersectionCount(hiddenAbility, within);
+    }
+
+    /**
+     * within 안에서 타입이 두 개 이상인 포켓몬 수
+     */
+    public int multiTypeCount(long[] within) {
+        return intersectionCount(multiType, within);
+    }
+
+    private static Map<String, Integer> counts(Map<String, long[]> index, long[] within) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(index.size());
+        for (Map.Entry<String, long[]> entry : index.entrySet()) {
+            int count = intersectionCount(entry.getValue(), within);
+            if (count > 0) {
+                entries.add(Map.entry(entry.getKey(), count));
+            }
+        }
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Integer> counts = new LinkedHashMap<>(entries.size() * 2);
+        for (Map.Entry<String, Integer> entry : entries) {
+            counts.put(entry.getKey(), entry.getValue());
+        }
+        return counts;
+    }
+
+    private static int intersectionCount(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    /**
+     * 비트맵의 포켓몬 수 (popcount)
+     */
+    public static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * afterId보다 큰 ID부터 skip개를 건너뛰고 최대 limit개의 ID (오름차순)
+     */
+    public static List<Integer> ids(long[] bits, int afterId, int skip, int limit) {
+        List<Integer> ids = new ArrayList<>(Math.min(limit, 64));
+        int from = Math.max(afterId + 1, 0);
+        for (int i = from >>> 6; i < bits.length && ids.size() < limit; i++) {
+            long word = i == from >>> 6 ? bits[i] & (-1L << (from & 63)) : bits[i];
+            if (skip > 0) {
+                int inWord = Long.bitCount(word);
+                if (skip >= inWord) {
+                    skip -= inWord;
+                    continue;
+                }
+                for (; skip > 0; skip--) {
+                    word &= word - 1;
+                }
+            }
+            while (word != 0 && ids.size() < limit) {
+                ids.add((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+
+    private static Set<String> typeKeysOf(PokemonResponse pokemon) {
+        Set<String> keys = new LinkedHashSet<>(2);
+        if (pokemon.getTypes() != null) {
+            for (Type type : pokemon.getTypes()) {
+                if (type.getType() != null && type.getType().getName() != null) {
+                    keys.add(keyOf(type.getType().getName()));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static Set<String> abilityKeysOf(PokemonResponse pokemon) {
+        Set<String> keys = new LinkedHashSet<>(3);
+        if (pokemon.getAbilities() != null) {
+            for (Ability ability : pokemon.getAbilities()) {
+                if (ability.getAbility() != null && ability.getAbility().getName() != null) {
+                    keys.add(keyOf(ability.getAbility().getName()));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static boolean hasHiddenAbility(PokemonResponse pokemon) {
+        if (pokemon.getAbilities() != null) {
+            for (Ability ability : pokemon.getAbilities()) {
+                if (ability.isHidden()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static String keyOf(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 페이지 링크용 쿼리 파라미터 하나 ("&이름=값", 값은 UTF-8로 URL 인코딩)
+     */
+    public static String queryParam(String name, Object value) {
+        return "&" + name + "=" + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    private static int wordsFor(int maxId) {
+        return (maxId >>> 6) + 1;
+    }
+
+    private static void set(long[] bits, int id) {
+        bits[id >>> 6] |= 1L << (id & 63);
+    }
+
+    private static long[] withBit(long[] bits, int id, int words) {
+        long[] copy = bits == null ? new long[words] : Arrays.copyOf(bits, Math.max(bits.length, words));
+        set(copy, id);
+        return copy;
+    }
+
+    private static long[] cleared(long[] bits, int id) {
+        if ((id >>> 6) >= bits.length || (bits[id >>> 6] & (1L << (id & 63))) == 0) {
+            return bits;
+        }
+        long[] copy = bits.clone();
+        copy[id >>> 6] &= ~(1L << (id & 63));
+        return copy;
+    }
+
+    /**
+     * 필터 조건
+     *
+     * type/ability 값 하나가 절 하나이고 절끼리는 AND
+     * - "fire|flying": 둘 중 하나 (OR)
+     * - "!water": 해당 타입 제외 (NOT)
+     * hiddenAbility: true면 숨겨진 특성이 있는 포켓몬만, false면 없는 포켓몬만
+     * multiType: true면 타입이 두 개 이상인 포켓몬만, false면 단일 타입만
+     */
+    public static final class Query {
+
+        private final List<Clause> types;
+        private final List<Clause> abilities;
+        private final Boolean hiddenAbility;
+        private final Boolean multiType;
+
+        private Query(List<Clause> types, List<Clause> abilities, Boolean hiddenAbility, Boolean multiType) {
+            this.types = types;
+            this.abilities = abilities;
+            this.hiddenAbility = hiddenAbility;
+            this.multiType = multiType;
+        }
+
+        public static Query of(List<String> types, List<String> abilities, Boolean hiddenAbility) {
+            return of(types, abilities, hiddenAbility, null);
+        }
+
+        public static Query of(List<String> types, List<String> abilities, Boolean hiddenAbility, Boolean multiType) {
+            return new Query(parse(types), parse(abilities), hiddenAbility, multiType);
+        }
+
+        private static List<Clause> parse(List<String> values) {
+            if (values == null) {
+                return List.of();
+            }
+            List<Clause> clauses = new ArrayList<>(values.size());
+            for (String value : values) {
+                if (value == null || value.isBlank()) {
+                    continue;
+                }
+                String trimmed = value.trim();
+                boolean negated = trimmed.startsWith("!");
+                List<String> names = new ArrayList<>(2);
+                for (String name : (negated ? trimmed.substring(1) : trimmed).split("\\|")) {
+                    if (!name.isBlank()) {
+                        names.add(name.trim());
+                    }
+                }
+                if (!names.isEmpty()) {
+                    clauses.add(new Clause(names, negated));
+                }
+            }
+            return clauses;
+        }
+
+        /**
+         * 이름을 인덱스 키(영어 이름, 소문자)로 바꾼 새 조건 (한국어 이름 변환 등)
+         */
+        public Query resolve(UnaryOperator<String> typeName,
+                             UnaryOperator<String> abilityName) {
+            return new Query(resolve(types, typeName), resolve(abilities, abilityName), hiddenAbility, multiType);
+        }
+
+        private static List<Clause> resolve(List<Clause> clauses, UnaryOperator<String> resolver) {
+            List<Clause> resolved = new ArrayList<>(clauses.size());
+            for (Clause clause : clauses) {
+                List<String> names = new ArrayList<>(clause.names.size());
+                for (String name : clause.names) {
+                    names.add(keyOf(resolver.apply(name)));
+                }
+                resolved.add(new Clause(names, clause.negated));
+            }
+            return resolved;
+        }
+
+        public boolean isEmpty() {
+            return types.isEmpty() && abilities.isEmpty() && hiddenAbility == null && multiType == null;
+        }
+
+        /**
+         * 긍정 타입 조건 하나뿐인지 (기존 DB 조회로 처리 가능한 형태)
+         */
+        public String singleType() {
+            return abilities.isEmpty() && hiddenAbility == null && multiType == null ? single(types) : null;
+        }
+
+        /**
+         * 긍정 특성 조건 하나뿐인지 (기존 DB 조회로 처리 가능한 형태)
+         */
+        public String singleAbility() {
+            return types.isEmpty() && hiddenAbility == null && multiType == null ? single(abilities) : null;
+        }
+
+        private static String single(List<Clause> clauses) {
+            if (clauses.size() != 1 || clauses.get(0).negated || clauses.get(0).names.size() != 1) {
+                return null;
+            }
+            return clauses.get(0).names.get(0);
+        }
+
+        /**
+         * 페이지 링크용 쿼리 문자열 ("&type=fire&type=%21water&hiddenAbility=true")
+         * 값은 URL 인코딩합니다 (| ! 와 한국어 이름이 링크에서 깨지지 않도록)
+         */
+        public String toQueryString() {
+            StringBuilder sb = new StringBuilder();
+            for (Clause clause : types) {
+                sb.append(queryParam("type", clause));
+            }
+            for (Clause clause : abilities) {
+                sb.append(queryParam("ability", clause));
+            }
+            if (hiddenAbility != null) {
+                sb.append(queryParam("hiddenAbility", hiddenAbility));
+            }
+            if (multiType != null) {
+                sb.append(queryParam("multiType", multiType));
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final class Clause {
+
+        private final List<String> names;
+        private final boolean negated;
+
+        private Clause(List<String> names, boolean negated) {
+            this.names = names;
+            this.negated = negated;
+        }
+
+        @Override
+        public String toString() {
+            return (negated ? "!" : "") + String.join("|", names);
+        }
+    }
+}
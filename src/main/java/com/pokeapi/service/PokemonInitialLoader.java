@@ -9,21 +9,33 @@ import com.pokeapi.model.PokemonSpeciesResponse;
 import com.pokeapi.repository.AbilityRepository;
 import com.pokeapi.repository.PokemonRepository;
 import com.pokeapi.repository.TypeRepository;
+import com.pokeapi.util.TokenBucketRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
  * CommandLineRunner: 애플리케이션 시작 후 자동으로 실행되는 컴포넌트
  * 초기 데이터를 로드하는 용도로 사용
+ * DB가 비어 있으면 데이터셋 번들 파일에서 먼저 일괄 복원하고, 모자란 포켓몬만 PokeAPI에서 가져옵니다
+ * (로드가 끝나면 PokemonWarmUp이 이어서 실행됨)
  */
 @Component
+@Order(1)
 public class PokemonInitialLoader implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(PokemonInitialLoader.class);
@@ -36,6 +48,16 @@ public class PokemonInitialLoader implements CommandLineRunner {
 
     private final PokemonClient pokemonClient;
 
+    private final PokedexSnapshotManager snapshotManager;
+
+    private final PokemonBatchWriter batchWriter;
+
+    private final TypeAbilityDictionary dictionary;
+
+    private final PokemonListCacheEvictor listCacheEvictor;
+
+    private final PokedexBundleStore bundleStore;
+
     /**
      * @Value: application.properties에서 값을 주입받음
      * 기본값 설정 가능 (콜론 뒤가 기본값)
@@ -47,16 +69,27 @@ public class PokemonInitialLoader implements CommandLineRunner {
     private boolean initialLoadEnabled; // 초기 로드 활성화 여부
 
     @Value("${app.data.batch-size:10}")
-    private int batchSize;  // 배치 크기
+    private int batchSize;  // 배치 크기 (한 트랜잭션에서 저장할 포켓몬 수)
+
+    @Value("${app.data.fetch-concurrency:4}")
+    private int fetchConcurrency;   // PokeAPI 동시 요청 스레드 수
+
+    @Value("${app.data.requests-per-second:20}")
+    private double requestsPerSecond;   // PokeAPI 초당 최대 요청 수
 
     /**
      * 생성자 주입: Spring이 자동으로 의존성을 주입해줌
      */
-    public PokemonInitialLoader(PokemonRepository pokemonRepository, TypeRepository typeRepository, AbilityRepository abilityRepository, PokemonClient pokemonClient) {
+    public PokemonInitialLoader(PokemonRepository pokemonRepository, TypeRepository typeRepository, AbilityRepository abilityRepository, PokemonClient pokemonClient, PokedexSnapshotManager snapshotManager, PokemonBatchWriter batchWriter, TypeAbilityDictionary dictionary, PokemonListCacheEvictor listCacheEvictor, PokedexBundleStore bundleStore) {
         this.pokemonRepository = pokemonRepository;
         this.typeRepository = typeRepository;
         this.abilityRepository = abilityRepository;
         this.pokemonClient = pokemonClient;
+        this.snapshotManager = snapshotManager;
+        this.batchWriter = batchWriter;
+        this.dictionary = dictionary;
+        this.listCacheEvictor = listCacheEvictor;
+        this.bundleStore = bundleStore;
     }
 
     /**
@@ -64,9 +97,13 @@ public class PokemonInitialLoader implements CommandLineRunner {
      */
     @Override
     public void run(String... args) {
+        // 연결 테이블 ID 시퀀스를 기존 행 뒤로 맞춤 (IDENTITY 시절 DB와 겹치지 않게)
+        bundleStore.alignLinkSequences();
+
         // 설정에서 비활성화된 경우 실행하지 않음
         if (!initialLoadEnabled) {
             log.info("초기 포켓몬 데이터 로드가 비활성화되어 있습니다.");
+            snapshotManager.rebuild();
             return;
         }
 
@@ -74,60 +111,106 @@ public class PokemonInitialLoader implements CommandLineRunner {
         long existingCount = pokemonRepository.count(); // JpaRepository의 기본 메서드
         if (existingCount >= initialLoadCount) {
             log.info("데이터베이스에 이미 {}마리의 포켓몬이 있습니다. 초기 로드를 건너뜁니다.", existingCount);
+            snapshotManager.rebuild();
             logDatabaseStats();
+            if (!bundleStore.exists()) {
+                bundleStore.exportBundle();
+            }
             return;
         }
 
         log.info("초기 포켓몬 데이터 로드를 시작합니다. (목표: {}마리)", initialLoadCount);
-        loadInitialPokemonData();
+
+        // 1. 빈 DB면 로컬 데이터셋 번들에서 일괄 복원 (네트워크 없음)
+        if (existingCount == 0 && typeRepository.count() == 0 && abilityRepository.count() == 0) {
+            int imported = bundleStore.importBundle();
+            if (imported > 0) {
+                // 번들은 사전을 거치지 않고 타입/특성 행을 넣으므로 기동 시(@PostConstruct) 빈 DB로 채운 사전을 다시 로드
+                // (다시 읽지 않으면 type=불꽃 같은 한국어 필터가 영어 키로 바뀌지 않아 결과가 비어 버림)
+                dictionary.preload();
+            }
+        }
+
+        // 2. 아직 모자란 포켓몬만 PokeAPI에서 로드
+        if (pokemonRepository.count() < initialLoadCount) {
+            loadInitialPokemonData();
+        }
+
+        // 로드 전에 만들어진 목록 캐시는 개수/페이지가 달라졌으므로 비움
+        listCacheEvictor.clearAll();
+
+        // 로드가 끝난 데이터로 메모리 도감 스냅샷 생성 후 다음 기동용 번들 저장
+        snapshotManager.rebuild();
         logDatabaseStats();
+        bundleStore.exportBundle();
     }
 
     /**
-     * 실제 데이터 로드 로직
+     * 실제 데이터 로드 로직 (단계별 파이프라인)
+     *
+     * 1. 조회: fetchConcurrency개의 스레드가 토큰 버킷 속도 제한 안에서 PokeAPI 호출
+     * 2. 변환: 조회가 끝난 순서대로 Entity로 변환 (타입/특성은 TypeAbilityDictionary에서 조회)
+     * 3. 저장: batchSize개씩 모아서 한 트랜잭션으로 JDBC 배치 INSERT
      */
     private void loadInitialPokemonData() {
         int loadedCount = 0;
         int failedCount = 0;
 
-        // 배치 단위로 처리
-        for (int start = 1; start <= initialLoadCount; start += batchSize) {
-            int end = Math.min(start + batchSize - 1, initialLoadCount);
-            log.info("포켓몬 배치 처리 중: {} - {} 번", start, end);
+        // 이미 저장된 ID는 한 번의 쿼리로 확인 (중복 방지)
+        Set<Long> existingIds = new HashSet<>(pokemonRepository.findAllIds());
 
-            // 배치 내의 각 포켓몬 처리
-            for (int id = start; id <= end; id++) {
-                try {
-                    // 이미 존재하는지 확인 (중복 방지)
-                    if (pokemonRepository.existsById((long) id)) {
-                        log.debug("포켓몬 ID {}는 이미 존재합니다. 건너뜁니다.", id);
-                        loadedCount++;
-                        continue;
-                    }
-
-                    // PokeAPI에서 데이터 가져와서 저장
-                    Pokemon savedPokemon = loadAndSavePokemon(id);
-                    if (savedPokemon != null) {
-                        loadedCount++;
-                        log.debug("포켓몬 저장 완료: {} (ID: {})", savedPokemon.getName(), id);
-                    } else {
-                        failedCount++;
-                    }
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(requestsPerSecond, fetchConcurrency);
+        ExecutorService fetchers = Executors.newFixedThreadPool(fetchConcurrency);
+        CompletionService<FetchedPokemon> completionService = new ExecutorCompletionService<>(fetchers);
+
+        try {
+            int submitted = 0;
+            for (int id = 1; id <= initialLoadCount; id++) {
+                if (existingIds.contains((long) id)) {
+                    log.debug("포켓몬 ID {}는 이미 존재합니다. 건너뜁니다.", id);
+                    loadedCount++;
+                    continue;
+                }
+                int pokemonId = id;
+                completionService.submit(() -> fetchPokemon(pokemonId, rateLimiter));
+                submitted++;
+            }
+            log.info("포켓몬 {}마리 조회 시작 (동시 요청: {}, 초당 최대 {}회)", submitted, fetchConcurrency, requestsPerSecond);
+
+            List<Pokemon> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < submitted; i++) {
+                FetchedPokemon fetched = completionService.take().get();
+                if (fetched.apiResponse == null) {
+                    failedCount++;
+                    continue;
+                }
 
+                try {
+                    batch.add(convertToEntity(fetched.apiResponse, fetched.speciesResponse));
                 } catch (Exception e) {
                     failedCount++;
-                    log.warn("포켓몬 ID {} 로드 실패: {}", id, e.getMessage());
+                    log.warn("포켓몬 ID {} 변환 실패: {}", fetched.id, e.getMessage());
+                    continue;
                 }
-            }
 
-            // API 부하 방지를 위한 대기
-            try {
-                Thread.sleep(1000);  // 1초 대기
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("초기 로드가 중단되었습니다.", e);
-                break;
+                if (batch.size() >= batchSize) {
+                    int[] result = writeBatch(batch);
+                    loadedCount += result[0];
+                    failedCount += result[1];
+                }
             }
+
+            int[] result = writeBatch(batch);
+            loadedCount += result[0];
+            failedCount += result[1];
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("초기 로드가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            log.error("초기 로드 중 오류가 발생했습니다.", e);
+        } finally {
+            fetchers.shutdownNow();
         }
 
         long finalCount = pokemonRepository.count();
@@ -136,34 +219,73 @@ public class PokemonInitialLoader implements CommandLineRunner {
     }
 
     /**
-     * 개별 포켓몬을 로드하고 저장하는 메서드
+     * PokeAPI에서 포켓몬 기본 정보 + Species 정보 조회 (조회 단계, 실패 시 apiResponse == null)
      */
-    private Pokemon loadAndSavePokemon(int id) {
+    private FetchedPokemon fetchPokemon(int id, TokenBucketRateLimiter rateLimiter) throws InterruptedException {
         try {
             // 1. PokeAPI에서 기본 정보 가져오기
+            rateLimiter.acquire();
             PokemonResponse apiResponse = pokemonClient.getPokemon(String.valueOf(id));
             if (apiResponse == null) {
                 log.warn("포켓몬 ID {}의 API 응답이 null입니다.", id);
-                return null;
+                return new FetchedPokemon(id, null, null);
             }
 
             // 2. PokeAPI에서 Species 정보 가져오기 (한국어 이름용)
             PokemonSpeciesResponse speciesResponse = null;
             try {
+                rateLimiter.acquire();
                 speciesResponse = pokemonClient.getPokeSpecies(String.valueOf(id));
+            } catch (InterruptedException e) {
+                throw e;
             } catch (Exception e) {
                 log.debug("포켓몬 ID {}의 Species 정보를 가져올 수 없습니다: {}", id, e.getMessage());
             }
+            return new FetchedPokemon(id, apiResponse, speciesResponse);
+
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("포켓몬 ID {} 로드 실패: {}", id, e.getMessage());
+            return new FetchedPokemon(id, null, null);
+        }
+    }
 
-            // 3. API 응답을 Entity로 변환
-            Pokemon pokemon = convertToEntity(apiResponse, speciesResponse);
+    /**
+     * 모아둔 포켓몬을 한 번에 저장 (저장 단계)
+     * @return [성공 수, 실패 수]
+     */
+    private int[] writeBatch(List<Pokemon> batch) {
+        if (batch.isEmpty()) {
+            return new int[]{0, 0};
+        }
 
-            // 4. 데이터베이스에 저장
-            Pokemon savePokemon = pokemonRepository.save(pokemon);  // JpaRepository의 save 메서드
-            return savePokemon;
+        int size = batch.size();
+        try {
+            // 묶음 저장이 실패하면 한 마리씩 다시 저장 (실패한 포켓몬만 빠짐)
+            int saved = batchWriter.persistAllOrEach(batch);
+            log.info("포켓몬 배치 저장 완료: {}마리 (실패: {}마리)", saved, size - saved);
+            return new int[]{saved, size - saved};
         } catch (Exception e) {
-            log.error("포켓몬 ID {} 로드 중 오류 발생", id, e);
-            return null;
+            log.error("포켓몬 배치 저장 실패 ({}마리): {}", size, e.getMessage(), e);
+            return new int[]{0, size};
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 조회 단계 결과
+     */
+    private static class FetchedPokemon {
+        private final int id;
+        private final PokemonResponse apiResponse;
+        private final PokemonSpeciesResponse speciesResponse;
+
+        private FetchedPokemon(int id, PokemonResponse apiResponse, PokemonSpeciesResponse speciesResponse) {
+            this.id = id;
+            this.apiResponse = apiResponse;
+            this.speciesResponse = speciesResponse;
         }
     }
 
@@ -198,7 +320,7 @@ public class PokemonInitialLoader implements CommandLineRunner {
         // 타입 관계 설정
         if (apiResponse.getTypes() != null) {
             for (com.pokeapi.model.Type typeSlot : apiResponse.getTypes()) {
-                Type type = getOrCreateType(typeSlot.getType().getName());
+                Type type = dictionary.type(typeSlot.getType().getName());
                 pokemon.addType(type, typeSlot.getSlot());
                 log.debug("타입 추가: {} (슬롯: {})", type.getName(), typeSlot.getSlot());
             }
@@ -207,7 +329,7 @@ public class PokemonInitialLoader implements CommandLineRunner {
         // 특성 관계 설정
         if (apiResponse.getAbilities() != null) {
             for (com.pokeapi.model.Ability abilitySlot : apiResponse.getAbilities()) {
-                Ability ability = getOrCreateAbility(abilitySlot.getAbility().getName());
+                Ability ability = dictionary.ability(abilitySlot.getAbility().getName());
                 pokemon.addAbility(ability, abilitySlot.getSlot(), abilitySlot.isHidden());
                 log.debug("특성 추가: {} (슬롯: {}, 숨김:{}",
                         ability.getName(), abilitySlot.getSlot(), abilitySlot.isHidden());
@@ -217,125 +339,8 @@ public class PokemonInitialLoader implements CommandLineRunner {
         return pokemon;
     }
 
-    private Type getOrCreateType(String name) {
-        Optional<Type> existingType = typeRepository.findByName(name);
-        if (existingType.isPresent()) {
-            return existingType.get();
-        }
-
-        // 새 타입 생성
-        Type newType = new Type();
-        newType.setName(name);
-        newType.setKoreanName(translateTypeToKorean(name));
-        Type savedType = typeRepository.save(newType);
-
-        log.info("새 타입 생성: {} ({})", name, savedType.getKoreanName());
-        return savedType;
-    }
-
-    private Ability getOrCreateAbility(String name) {
-        Optional<Ability> existingAbility = abilityRepository.findByName(name);
-        if (existingAbility.isPresent()) {
-            return existingAbility.get();
-        }
-
-        // 새 특성 생ㄷ성
-        Ability newAbility = new Ability();
-        newAbility.setName(name);
-        newAbility.setKoreanName(translateAbilityToKorean(name));
-        Ability savedAbility = abilityRepository.save(newAbility);
-
-        log.info("새 특성 생성: {} ({})", name, savedAbility.getKoreanName());
-        return savedAbility;
-    }
-
-    /**
-     * 타입 영어 -> 한국어 번역
-     */
-    private String translateTypeToKorean(String englishName) {
-        switch (englishName.toLowerCase()) {
-            case "fire": return "불꽃";
-            case "water": return "물";
-            case "grass": return "풀";
-            case "electric": return "전기";
-            case "psychic": return "에스퍼";
-            case "ice": return "얼음";
-            case "dragon": return "드래곤";
-            case "dark": return "악";
-            case "fairy": return "페어리";
-            case "normal": return "노말";
-            case "fighting": return "격투";
-            case "poison": return "독";
-            case "ground": return "땅";
-            case "flying": return "비행";
-            case "bug": return "벌레";
-            case "rock": return "바위";
-            case "ghost": return "고스트";
-            case "steel": return "강철";
-            default: return englishName;
-        }
-    }
-
-    /**
-     * 특성 영어 -> 한국어 번역
-     */
-    private String translateAbilityToKorean(String englishName) {
-        switch (englishName.toLowerCase()) {
-            case "static": return "정전기";
-            case "lightning-rod": return "피뢰침";
-            case "overgrow": return "신록";
-            case "chlorophyll": return "엽록소";
-            case "blaze": return "맹화";
-            case "solar-power": return "태양의힘";
-            case "torrent": return "급류";
-            case "rain-dish": return "젖은접시";
-            case "keen-eye": return "날카로운눈";
-            case "tangled-feet": return "얽힌발";
-            case "big-pecks": return "부풀린가슴";
-            case "guts": return "근성";
-            case "hustle": return "의욕";
-            case "inner-focus": return "정신력";
-            case "early-bird": return "일찍기상";
-            case "scrappy": return "배짱";
-            case "shed-skin": return "탈피";
-            case "marvel-scale": return "이상한비늘";
-            case "intimidate": return "위협";
-            case "hyper-cutter": return "괴력집게";
-            case "sand-veil": return "모래숨기";
-            case "poison-point": return "독가시";
-            case "rivalry": return "투쟁심";
-            case "sheer-force": return "우격다짐";
-            case "cute-charm": return "헤롱헤롱바디";
-            case "magic-guard": return "매직가드";
-            case "flash-fire": return "타오르는불꽃";
-            case "run-away": return "도주";
-            case "synchronize": return "싱크로";
-            case "clear-body": return "클리어바디";
-            case "natural-cure": return "자연회복";
-            case "serene-grace": return "하늘의은총";
-            case "swift-swim": return "쓱쓱";
-            case "thick-fat": return "두꺼운지방";
-            case "vital-spirit": return "의기양양";
-            case "white-smoke": return "하얀연기";
-            case "pure-power": return "순수한힘";
-            case "shell-armor": return "조가비갑옷";
-            case "air-lock": return "에어록";
-            case "motor-drive": return "전기엔진";
-            case "mold-breaker": return "틀깨기";
-            case "super-luck": return "대운";
-            case "aftermath": return "유폭";
-            case "anticipation": return "위험예지";
-            case "forewarn": return "예고";
-            case "unaware": return "천진";
-            case "tinted-lens": return "색안경";
-            case "filter": return "필터";
-            case "slow-start": return "슬로스타트";
-            default: return englishName;
-        }
-    }
-
     /**
-     * 데이터베이스 통계 출력
+     * 데이터베이스 통계 출력 (타입별 포켓몬 수는 스냅샷의 facet 개수 사용, 타입마다 COUNT 쿼리 없음)
      */
     private void logDatabaseStats() {
         try {
@@ -351,13 +356,10 @@ public class PokemonInitialLoader implements CommandLineRunner {
             if (pokemonCount > 0 && typeCount > 0) {
                 // 타입별 포켓몬 수 (상위 5개)
                 log.info("주요 타입별 포켓몬 수:");
-                typeRepository.findAllOrderByName().stream()
+                snapshotManager.current().facets().getTypes().entrySet().stream()
                         .limit(5)
-                        .forEach(type -> {
-                            long count = pokemonRepository.findByTypeName(type.getName(),
-                                    PageRequest.of(0, 1000)).getTotalElements();
-                            log.info("  - {} ({}): {}마리", type.getName(), type.getKoreanName(), count);
-                        });
+                        .forEach(entry -> log.info("  - {} ({}): {}마리",
+                                entry.getKey(), dictionary.type(entry.getKey()).getKoreanName(), entry.getValue()));
             }
 
             log.info("========================");
@@ -0,0 +1,55 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+
+/**
+ * 미리 직렬화해 둔 개별 포켓몬 응답 본문
+ *
+ * - json: Jackson으로 직렬화한 JSON 바이트
+ * - gzip: json을 미리 gzip 압축한 바이트 (비활성화 시 null)
+ * - etag: json 내용으로 계산한 strong ETag
+ * - gzipEtag: gzip 본문용 strong ETag (content-coding이 다른 표현이므로 etag에 "-gz"를 붙여 구분)
+ */
+public class PokemonJsonBody {
+
+    private final PokemonResponse source;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    public PokemonJsonBody(PokemonResponse source, byte[] json, byte[] gzip, String hash) {
+        this.source = source;
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = "\"" + hash + "\"";
+        this.gzipEtag = "\"" + hash + "-gz\"";
+    }
+
+    /**
+     * 이 본문을 만든 DTO 객체 (스냅샷이 교체되면 달라짐)
+     */
+    public PokemonResponse getSource() {
+        return source;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getGzipEtag() {
+        return gzipEtag;
+    }
+}
@@ -0,0 +1,92 @@
+package com.pokeapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.model.PokemonResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 개별 포켓몬 응답 JSON 바이트 캐시
+ *
+ * 같은 포켓몬 응답은 바뀌지 않으므로 한 번만 직렬화(+gzip)해 두고
+ * 컨트롤러가 바이트를 그대로 내려보냅니다.
+ * 새 포켓몬이 저장되면(PokemonSavedEvent) 해당 ID 항목을 제거합니다.
+ */
+@Component
+public class PokemonJsonCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonJsonCache.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Integer, PokemonJsonBody> bodies = new ConcurrentHashMap<>();
+
+    @Value("${app.cache.response-body.gzip:true}")
+    private boolean gzipEnabled;    // gzip 사전 압축 여부
+
+    public PokemonJsonCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 포켓몬 응답 본문 조회 (없거나 다른 DTO로 만들어진 본문이면 새로 직렬화)
+     */
+    public PokemonJsonBody get(PokemonResponse pokemon) {
+        PokemonJsonBody body = bodies.get(pokemon.getId());
+        if (body != null && body.getSource() == pokemon) {
+            return body;
+        }
+
+        PokemonJsonBody created = serialize(pokemon);
+        bodies.put(pokemon.getId(), created);
+        return created;
+    }
+
+    /**
+     * 새로 저장된 포켓몬의 본문 제거 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPokemonSaved(PokemonSavedEvent event) {
+        bodies.remove(event.getPokemon().getId());
+    }
+
+    public void clear() {
+        bodies.clear();
+    }
+
+    private PokemonJsonBody serialize(PokemonResponse pokemon) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(pokemon);
+            byte[] gzip = gzipEnabled ? gzip(json) : null;
+
+            log.debug("포켓몬 응답 직렬화: {} (JSON {}B, gzip {}B)",
+                    pokemon.getId(), json.length, gzip != null ? gzip.length : 0);
+            return new PokemonJsonBody(pokemon, json, gzip, DigestUtils.md5DigestAsHex(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포켓몬 응답을 직렬화할 수 없습니다: " + pokemon.getId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,54 @@
+package com.pokeapi.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 목록 캐시 비우기
+ *
+ * 새 포켓몬이 들어오면 개수/페이지 구성이 바뀌므로 목록 캐시(pokemonList, pokemonByType, pokemonByAbility)를 비웁니다.
+ * TwoLevelCache의 clear()는 Redis(L2)와 모든 노드의 L1을 함께 비웁니다.
+ */
+@Component
+public class PokemonListCacheEvictor {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonListCacheEvictor.class);
+
+    static final List<String> LIST_CACHES = List.of("pokemonList", "pokemonByType", "pokemonByAbility");
+
+    private final CacheManager cacheManager;
+
+    public PokemonListCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 새 포켓몬 저장 후 목록 캐시 비우기 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPokemonSaved(PokemonSavedEvent event) {
+        clearAll();
+    }
+
+    public void clearAll() {
+        for (String name : LIST_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null) {
+                continue;
+            }
+            try {
+                cache.clear();
+            } catch (Exception e) {
+                log.warn("목록 캐시 비우기 실패: {} ({})", name, e.getMessage());
+            }
+        }
+        log.debug("목록 캐시 비움: {}", LIST_CACHES);
+    }
+}
@@ -0,0 +1,98 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 없는 포켓몬 조회 결과 캐시 (negative cache)
+ *
+ * PokeAPI가 404를 준 이름/ID를 ttl 동안 기억해서
+ * 같은 요청이 다시 와도 DB/PokeAPI를 호출하지 않고 바로 404를 반환합니다.
+ * - 최대 maxSize개까지 보관 (가장 오래 쓰이지 않은 항목부터 제거)
+ * - 해당 포켓몬이 나중에 저장되면(PokemonSavedEvent) 이름/영어 이름/ID 항목을 제거
+ */
+@Component
+public class PokemonNotFoundCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonNotFoundCache.class);
+
+    @Value("${app.cache.not-found.ttl-seconds:300}")
+    private long ttlSeconds;    // 없는 포켓몬으로 기억하는 시간
+
+    @Value("${app.cache.not-found.max-size:10000}")
+    private int maxSize;        // 최대 항목 수
+
+    /** 정규화된 키 -> 만료 시각 (System.nanoTime 기준), 접근 순서 LRU */
+    private final Map<String, Long> expiresAt = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 없는 포켓몬으로 기억된 키인지 확인 (만료된 항목은 제거)
+     */
+    public synchronized boolean contains(String nameOrId) {
+        String key = normalize(nameOrId);
+        Long expiry = expiresAt.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - System.nanoTime() <= 0) {
+            expiresAt.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 없는 포켓몬으로 기억
+     */
+    public synchronized void put(String nameOrId) {
+        String key = normalize(nameOrId);
+        expiresAt.put(key, System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds));
+        log.debug("없는 포켓몬으로 기억: {} ({}초)", key, ttlSeconds);
+    }
+
+    public synchronized void remove(String nameOrId) {
+        expiresAt.remove(normalize(nameOrId));
+    }
+
+    public synchronized void clear() {
+        expiresAt.clear();
+    }
+
+    public synchronized int size() {
+        return expiresAt.size();
+    }
+
+    /**
+     * 새로 저장된 포켓몬의 항목 제거 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPokemonSaved(PokemonSavedEvent event) {
+        PokemonResponse pokemon = event.getPokemon();
+        remove(String.valueOf(pokemon.getId()));
+        if (pokemon.getName() != null) {
+            remove(pokemon.getName());
+        }
+        if (pokemon.getEnglishName() != null) {
+            remove(pokemon.getEnglishName());
+        }
+    }
+
+    private static String normalize(String nameOrId) {
+        return nameOrId == null ? "" : nameOrId.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+
+/**
+ * 새 포켓몬이 DB에 저장되었을 때 발행되는 이벤트
+ * 스냅샷 등 메모리에 올라간 데이터가 이 이벤트를 받아 갱신됩니다
+ * 쓰기 지연 저장(PokemonWriteBehind)에서도 DB에 커밋된 뒤에만 한 번 발행됩니다
+ * (큐에서 저장을 기다리는 포켓몬은 이벤트 없이 PokemonWriteBehind.findPending으로만 조회됨)
+ */
+public class PokemonSavedEvent {
+
+    private final PokemonResponse pokemon;
+
+    public PokemonSavedEvent(PokemonResponse pokemon) {
+        this.pokemon = pokemon;
+    }
+
+    public PokemonResponse getPokemon() {
+        return pokemon;
+    }
+}
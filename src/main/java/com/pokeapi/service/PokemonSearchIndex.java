@@ -0,0 +1,270 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.util.HangulChosung;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 포켓몬 이름 검색 인덱스 (n-gram 역색인, 불변)
+ *
+ * - keysById: 포켓몬 ID -> [한국어 이름, 영어 이름, 한국어 초성] (소문자)
+ * - postings: 검색 키의 1-gram/2-gram -> 해당 gram을 가진 포켓몬 ID (정렬된 배열)
+ *
+ * 검색어의 gram 목록을 교집합한 후보만 실제 문자열과 비교하므로
+ * 전체 포켓몬 수가 아니라 후보 수에 비례해서 동작합니다.
+ * 초성만 입력한 경우(예: "ㅍㅋㅊ")는 초성 키에서만 찾습니다.
+ */
+public final class PokemonSearchIndex {
+
+    private static final int NAME = 0;
+    private static final int ENGLISH_NAME = 1;
+    private static final int CHOSUNG = 2;
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int SUBSTRING = 2;
+    private static final int NO_MATCH = -1;
+
+    private static final int[] NO_IDS = new int[0];
+
+    private static final PokemonSearchIndex EMPTY =
+            new PokemonSearchIndex(Collections.emptyMap(), Collections.emptyMap());
+
+    private final Map<Integer, String[]> keysById;
+    private final Map<String, int[]> postings;
+
+    private PokemonSearchIndex(Map<Integer, String[]> keysById, Map<String, int[]> postings) {
+        this.keysById = keysById;
+        this.postings = postings;
+    }
+
+    public static PokemonSearchIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 포켓몬 목록으로 인덱스 생성
+     */
+    public static PokemonSearchIndex of(Collection<PokemonResponse> pokemons) {
+        Map<Integer, String[]> keysById = new HashMap<>(pokemons.size() * 2);
+        for (PokemonResponse pokemon : pokemons) {
+            keysById.put(pokemon.getId(), keysOf(pokemon));
+        }
+
+        Map<String, List<Integer>> builder = new HashMap<>();
+        for (Map.Entry<Integer, String[]> entry : keysById.entrySet()) {
+            for (String gram : gramsOf(entry.getValue())) {
+                builder.computeIfAbsent(gram, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(builder.size() * 2);
+        builder.forEach((gram, ids) -> {
+            int[] sorted = ids.stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(sorted);
+            postings.put(gram, sorted);
+        });
+        return new PokemonSearchIndex(Collections.unmodifiableMap(keysById), Collections.unmodifiableMap(postings));
+    }
+
+    /**
+     * 포켓몬 한 마리를 추가(또는 교체)한 새 인덱스 반환 (바뀐 gram의 목록만 새로 만듦)
+     */
+    public PokemonSearchIndex with(PokemonResponse pokemon) {
+        int id = pokemon.getId();
+        String[] keys = keysOf(pokemon);
+        String[] previousKeys = keysById.get(id);
+
+        Set<String> newGrams = gramsOf(keys);
+        Set<String> oldGrams = previousKeys != null ? gramsOf(previousKeys) : Collections.emptySet();
+
+        Map<Integer, String[]> newKeysById = new HashMap<>(keysById);
+        newKeysById.put(id, keys);
+
+        Map<String, int[]> newPostings = new HashMap<>(postings);
+        for (String gram : oldGrams) {
+            if (!newGrams.contains(gram)) {
+                int[] remaining = remove(newPostings.getOrDefault(gram, NO_IDS), id);
+                if (remaining.length == 0) {
+                    newPostings.remove(gram);
+                } else {
+                    newPostings.put(gram, remaining);
+                }
+            }
+        }
+        for (String gram : newGrams) {
+            newPostings.put(gram, insert(newPostings.getOrDefault(gram, NO_IDS), id));
+        }
+        return new PokemonSearchIndex(Collections.unmodifiableMap(newKeysById), Collections.unmodifiableMap(newPostings));
+    }
+
+    /**
+     * 이름 검색 (정확히 일치 -> 앞부분 일치 -> 부분 일치, 같은 순위는 ID 순)
+     * @return 최대 limit개의 포켓몬 ID
+     */
+    public List<Integer> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        boolean chosungOnly = HangulChosung.isChosungOnly(normalized);
+        int[] candidates = candidatesOf(normalized);
+
+        List<int[]> matches = new ArrayList<>();
+        for (int id : candidates) {
+            int rank = rankOf(keysById.get(id), normalized, chosungOnly);
+            if (rank != NO_MATCH) {
+                matches.add(new int[]{rank, id});
+            }
+        }
+        matches.sort(Comparator.<int[]>comparingInt(match -> match[0]).thenComparingInt(match -> match[1]));
+
+        List<Integer> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i)[1]);
+        }
+        return result;
+    }
+
+    /**
+     * 검색어의 모든 gram을 가진 ID (짧은 목록부터 교집합)
+     */
+    private int[] candidatesOf(String query) {
+        if (query.length() == 1) {
+            return postings.getOrDefault(query, NO_IDS);
+        }
+
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : bigramsOf(query)) {
+            int[] ids = postings.get(gram);
+            if (ids == null) {
+                return NO_IDS;
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int rankOf(String[] keys, String query, boolean chosungOnly) {
+        if (chosungOnly) {
+            return rankOf(keys[CHOSUNG], query);
+        }
+        int nameRank = rankOf(keys[NAME], query);
+        int englishRank = rankOf(keys[ENGLISH_NAME], query);
+        if (nameRank == NO_MATCH) {
+            return englishRank;
+        }
+        if (englishRank == NO_MATCH) {
+            return nameRank;
+        }
+        return Math.min(nameRank, englishRank);
+    }
+
+    private static int rankOf(String key, String query) {
+        if (key.equals(query)) {
+            return EXACT;
+        }
+        if (key.startsWith(query)) {
+            return PREFIX;
+        }
+        if (key.contains(query)) {
+            return SUBSTRING;
+        }
+        return NO_MATCH;
+    }
+
+    private static String[] keysOf(PokemonResponse pokemon) {
+        String name = pokemon.getName() != null ? normalize(pokemon.getName()) : "";
+        String englishName = pokemon.getEnglishName() != null ? normalize(pokemon.getEnglishName()) : "";
+        return new String[]{name, englishName, HangulChosung.extract(name)};
+    }
+
+    private static Set<String> gramsOf(String[] keys) {
+        Set<String> grams = new HashSet<>();
+        for (String key : keys) {
+            for (int i = 0; i < key.length(); i++) {
+                grams.add(key.substring(i, i + 1));
+            }
+            grams.addAll(bigramsOf(key));
+        }
+        return grams;
+    }
+
+    private static Set<String> bigramsOf(String value) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= value.length(); i++) {
+            bigrams.add(value.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] insert(int[] ids, int id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        int insertAt = -position - 1;
+        int[] result = new int[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertAt);
+        result[insertAt] = id;
+        System.arraycopy(ids, insertAt, result, insertAt + 1, ids.length - insertAt);
+        return result;
+    }
+
+    private static int[] remove(int[] ids, int id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return ids;
+        }
+        int[] result = new int[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        System.arraycopy(ids, position + 1, result, position, ids.length - position - 1);
+        return result;
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+}
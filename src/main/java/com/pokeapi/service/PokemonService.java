@@ -6,26 +6,49 @@ import com.pokeapi.entity.*;
 import com.pokeapi.exception.ExternalApiException;
 import com.pokeapi.exception.PokemonNotFoundException;
 import com.pokeapi.exception.PokemonInvalidArgumentException;
+import com.pokeapi.model.PokemonBatchResponse;
+import com.pokeapi.model.PokemonFacetResponse;
 import com.pokeapi.model.PokemonListResponse;
 import com.pokeapi.model.PokemonResponse;
 import com.pokeapi.model.PokemonSpeciesResponse;
 import com.pokeapi.model.PokemonSummary;
-import com.pokeapi.repository.AbilityRepository;
 import com.pokeapi.repository.PokemonRepository;
-import com.pokeapi.repository.TypeRepository;
+import com.pokeapi.repository.PokemonSummaryProjection;
+import com.pokeapi.util.PokemonCursor;
+import com.pokeapi.util.PokemonMapper;
+import com.pokeapi.util.SingleFlight;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,55 +57,174 @@ public class PokemonService {
 
     private static final Logger log = LoggerFactory.getLogger(PokemonService.class);
 
+    private static final int SEARCH_LIMIT = 20;   // 검색 결과 최대 개수
+    private static final int BATCH_LIMIT = 100;   // 한 번에 조회할 수 있는 최대 포켓몬 수
+
     private final PokemonRepository pokemonRepository;
-    private final TypeRepository typeRepository;
-    private final AbilityRepository abilityRepository;
+    private final TypeAbilityDictionary dictionary;
     private final PokemonClient pokemonClient;
+    private final PokedexSnapshotManager snapshotManager;
+    private final PokemonNotFoundCache notFoundCache;
+    private final PokemonWriteBehind writeBehind;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate saveTransaction;
+
+    /** 종족 엔드포인트로 바로 찾을 수 있는 키 (ID 또는 소문자 영어 이름) */
+    private static final Pattern SPECIES_KEY = Pattern.compile("[a-z0-9-]+");
+
+    /** 같은 포켓몬의 동시 DB/API 조회를 하나로 합침 */
+    private final SingleFlight<String, PokemonResponse> pokemonLoads = new SingleFlight<>();
+
+    /** 포켓몬 기본 정보와 동시에 보내는 종족 정보(한국어 이름) 요청용 스레드 풀 (DB 커넥션은 쓰지 않음) */
+    private final ExecutorService speciesFetcher;
+
+    /**
+     * 여러 포켓몬 조회에서 DB에 없는 포켓몬을 PokeAPI에서 동시에 불러오는 스레드 풀
+     * 스레드마다 DB 커넥션을 최대 1개(조회 또는 저장 트랜잭션) 쓰므로 커넥션 풀 크기보다 충분히 작게 둡니다
+     */
+    private final ExecutorService batchLoader;
 
     public PokemonService(PokemonRepository pokemonRepository,
-                          TypeRepository typeRepository,
-                          AbilityRepository abilityRepository,
-                          PokemonClient pokemonClient) {
+                          TypeAbilityDictionary dictionary,
+                          PokemonClient pokemonClient,
+                          PokedexSnapshotManager snapshotManager,
+                          PokemonNotFoundCache notFoundCache,
+                          PokemonWriteBehind writeBehind,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.pokeapi.species-threads:16}") int speciesThreads,
+                          @Value("${app.pokeapi.batch-threads:4}") int batchThreads) {
         this.pokemonRepository = pokemonRepository;
-        this.typeRepository = typeRepository;
-        this.abilityRepository = abilityRepository;
+        this.dictionary = dictionary;
         this.pokemonClient = pokemonClient;
+        this.snapshotManager = snapshotManager;
+        this.notFoundCache = notFoundCache;
+        this.writeBehind = writeBehind;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.saveTransaction = new TransactionTemplate(transactionManager);
+        this.saveTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+
+        this.speciesFetcher = newDaemonPool(speciesThreads, "pokeapi-species-");
+        this.batchLoader = newDaemonPool(batchThreads, "pokeapi-batch-");
+    }
+
+    private static ExecutorService newDaemonPool(int size, String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        speciesFetcher.shutdownNow();
+        batchLoader.shutdownNow();
     }
 
     /**
      * 개별 포켓몬 조회 (타입, 특성 정보 포함)
+     * 스냅샷에 있으면 트랜잭션 없이 바로 반환하고, 없을 때만 DB/API 조회 트랜잭션을 시작합니다
+     * 같은 포켓몬에 대한 동시 요청은 한 번의 DB/API 조회 결과(또는 예외)를 함께 받습니다
+     * PokeAPI에도 없던 이름/ID는 일정 시간 동안 DB/API 호출 없이 바로 404를 반환합니다
+     *
+     * 스냅샷이 ID(정식 키) + 이름 별칭 캐시 역할을 하므로 별도 @Cacheable("pokemon")은 두지 않습니다
+     * (새로 저장된 포켓몬은 PokemonSavedEvent로 스냅샷에 반영되고 목록 캐시는 PokemonListCacheEvictor가 비움)
      */
-    // @Cacheable(value = "pokemon", key = "#nameOrId") // 임시로 캐시 비활성화
-    @Transactional(readOnly = true) // 명시적 트랜잭션 추가
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PokemonResponse getPokemon(String nameOrId) {
         log.debug("포켓몬 조회 요청: {}", nameOrId);
 
+        String key = normalizeKey(nameOrId);
+
+        // 0. 메모리 스냅샷에서 먼저 조회 (Hibernate 세션 없음)
+        PokemonResponse snapshotHit = snapshotManager.current().find(key);
+        if (snapshotHit != null) {
+            return snapshotHit;
+        }
+
+        // 1. 최근에 없다고 확인된 이름/ID면 바로 404
+        if (notFoundCache.contains(key)) {
+            log.debug("없는 포켓몬 캐시 적중: {}", key);
+            throw new PokemonNotFoundException("포켓몬을 찾을 수 없습니다: " + nameOrId);
+        }
+
+        return pokemonLoads.execute(key, () -> loadPokemon(key));
+    }
+
+    /**
+     * 조회 키 정규화 (앞뒤 공백 제거, 소문자)
+     * PokeAPI 영어 이름은 모두 소문자이므로 "Pikachu"와 "pikachu"를 같은 요청으로 취급합니다
+     */
+    private static String normalizeKey(String nameOrId) {
+        return nameOrId == null ? "" : nameOrId.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 스냅샷에 없는 포켓몬을 DB -> API 순으로 조회
+     * DB 조회와 저장은 각각 짧은 트랜잭션으로 나누고, PokeAPI 호출 중에는 트랜잭션(커넥션)을 잡지 않습니다
+     * (조회 트랜잭션 안에서 REQUIRES_NEW 저장을 열면 요청 하나가 커넥션 두 개를 PokeAPI 왕복 내내 붙잡아
+     *  동시 요청이 풀 크기에 가까워지면 서로의 커넥션을 기다리며 멈출 수 있음)
+     */
+    private PokemonResponse loadPokemon(String nameOrId) {
         try {
-            // 1. DB에서 먼저 조회 (관련 정보 포함)
-            Pokemon pokemon = findPokemonInDatabaseWithRelations(nameOrId);
+            // 0. 쓰기 지연 모드에서 아직 커밋되지 않은 포켓몬 (스냅샷에는 커밋 후에 들어감)
+            if (writeBehind.isEnabled()) {
+                PokemonResponse pending = writeBehind.findPending(nameOrId);
+                if (pending != null) {
+                    return pending;
+                }
+            }
 
-            if (pokemon != null) {
-                log.debug("DB에서 포켓몬 발견: {} (ID: {})", pokemon.getName(), pokemon.getId());
-                log.debug("타입: {}개, 특성: {}개 로드됨", 
-                    pokemon.getTypes() != null ? pokemon.getTypes().size() : 0,
-                    pokemon.getAbilities() != null ? pokemon.getAbilities().size() : 0);
+            // 1. DB에서 먼저 조회 (관련 정보 포함, 트랜잭션 안에서 응답으로 변환)
+            PokemonResponse fromDatabase = readOnlyTransaction.execute(status -> {
+                Pokemon pokemon = findPokemonInDatabaseWithRelations(nameOrId);
+                return pokemon != null ? PokemonMapper.toResponse(pokemon) : null;
+            });
 
-                return convertToResponse(pokemon);
+            if (fromDatabase != null) {
+                log.debug("DB에서 포켓몬 발견: {} (ID: {})", fromDatabase.getName(), fromDatabase.getId());
+                log.debug("타입: {}개, 특성: {}개 로드됨",
+                    fromDatabase.getTypes() != null ? fromDatabase.getTypes().size() : 0,
+                    fromDatabase.getAbilities() != null ? fromDatabase.getAbilities().size() : 0);
+
+                return fromDatabase;
             }
 
-            // 2. DB에 없으면 API에서 로드 후 저장
+            // 2. DB에 없으면 트랜잭션 없이 API에서 로드
             log.info("DB에 없는 포켓몬, API에서 로드 시작: {}", nameOrId);
-            pokemon = loadAndSavePokemonFromApi(nameOrId);
+            Pokemon fetched = fetchPokemonFromApi(nameOrId);
+
+            // 쓰기 지연 모드에서는 변환한 응답을 바로 반환하고 저장은 PokemonWriteBehind 큐에 맡김 (PokeAPI 왕복만 기다림)
+            if (writeBehind.isEnabled()) {
+                PokemonResponse loaded = PokemonMapper.toResponse(fetched);
+                writeBehind.submit(loaded);
+
+                log.info("새 포켓몬 로드 완료, 저장 대기: {} (ID: {})", loaded.getName(), loaded.getId());
+                return loaded;
+            }
 
-            log.info("새 포켓몬 로드 완료: {} (ID: {})", pokemon.getName(), pokemon.getId());
-            return convertToResponse(pokemon);
+            // 3. 별도 트랜잭션으로 저장 (커밋 시점에 PokemonSavedEvent가 발행되도록)
+            PokemonResponse loaded = saveTransaction.execute(status -> PokemonMapper.toResponse(savePokemon(fetched)));
+
+            log.info("새 포켓몬 로드 완료: {} (ID: {})", loaded.getName(), loaded.getId());
+            return loaded;
 
         } catch (PokemonNotFoundException e) {
             log.warn("포켓몬 찾을 수 없음: {}", nameOrId);
+            notFoundCache.put(nameOrId);
+            throw e;
+        } catch (ExternalApiException e) {
+            // PokeAPI 장애(타임아웃, 서킷 열림 등)는 404가 아니라 503으로 응답
             throw e;
         } catch (Exception e) {
+            // DB 커넥션/트랜잭션 시작 실패 등 인프라 오류도 없는 포켓몬이 아니므로 503 (없는 포켓몬 캐시에도 넣지 않음)
             log.error("포켓몬 조회 중 예상치 못한 오류: {}", nameOrId, e);
-            throw new PokemonNotFoundException("포켓몬 조회 중 오류가 발생했습니다: " + nameOrId);
+            throw new ExternalApiException("포켓몬 조회 중 오류가 발생했습니다: " + nameOrId, e);
         }
     }
 
@@ -151,48 +293,179 @@ public class PokemonService {
     }
 
     /**
-     * 포켓몬 목록 조회 (타입, 특성 정보 포함)
+     * 여러 포켓몬 한 번에 조회 (ID와 한국어/영어 이름 혼합 가능)
+     * 1. 스냅샷에서 찾고
+     * 2. 나머지는 ID/이름 IN 쿼리 + 타입/특성 fetch join 두 번으로 DB에서 한꺼번에 찾고
+     * 3. 그래도 없으면 PokeAPI에서 동시에 불러옵니다 (개별 조회와 같은 single-flight / 없는 포켓몬 캐시 사용)
+     *    PokeAPI에 없는 포켓몬만 notFound, 그 밖의 실패(PokeAPI 장애, DB 커넥션 부족 등)는 unavailable에 담습니다
+     * 결과는 요청 순서대로이며, 같은 포켓몬을 ID와 이름으로 함께 요청해도 한 번만 담습니다
      */
-    @Cacheable(value = "pokemonList", key = "#limit + '::' + #offset")
-    public PokemonListResponse getAllPokemon(int limit, int offset) {
-        log.debug("포켓몬 목록 조회: limit={}, offset={}", limit, offset);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PokemonBatchResponse getPokemonBatch(List<String> namesOrIds) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (namesOrIds != null) {
+            for (String nameOrId : namesOrIds) {
+                String key = normalizeKey(nameOrId);
+                if (!key.isEmpty()) {
+                    keys.add(key);
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new PokemonInvalidArgumentException("조회할 포켓몬 이름 또는 ID를 입력해주세요");
+        }
+        if (keys.size() > BATCH_LIMIT) {
+            throw new PokemonInvalidArgumentException("한 번에 최대 " + BATCH_LIMIT + "마리까지 조회할 수 있습니다");
+        }
+        log.debug("여러 포켓몬 조회 요청: {}개", keys.size());
+
+        PokemonBatchResponse response = new PokemonBatchResponse();
+        Map<String, PokemonResponse> found = new HashMap<>();
+
+        // 1. 메모리 스냅샷
+        PokedexSnapshot snapshot = snapshotManager.current();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            PokemonResponse hit = snapshot.find(key);
+            if (hit != null) {
+                found.put(key, hit);
+            } else {
+                missing.add(key);
+            }
+        }
 
-        try {
-            Pageable pageable = PageRequest.of(offset / limit, limit);
-            
-            // EntityGraph를 사용하여 관련 정보 포함 조회
-            Page<Pokemon> pokemonPage;
+        // 2. DB (남은 이름/ID를 한꺼번에)
+        if (!missing.isEmpty()) {
+            List<PokemonResponse> fromDatabase;
             try {
-                pokemonPage = pokemonRepository.findAllWithAllGraph(pageable);
-                log.debug("EntityGraph로 포켓몬 목록 조회 성공");
-            } catch (Exception e) {
-                log.warn("EntityGraph 조회 실패, 기본 방식으로 조회: {}", e.getMessage());
-                pokemonPage = pokemonRepository.findAll(pageable);
+                fromDatabase = readOnlyTransaction.execute(status -> findBatchInDatabase(missing));
+            } catch (RuntimeException e) {
+                // DB를 쓸 수 없으면 PokeAPI로 넘기지 않고 (저장도 못 하므로) 남은 포켓몬을 모두 unavailable로 응답
+                log.error("여러 포켓몬 조회 중 DB 조회 실패: {}개", missing.size(), e);
+                response.getUnavailable().addAll(missing);
+                missing.clear();
+                fromDatabase = List.of();
+            }
+            Map<String, PokemonResponse> byAlias = new HashMap<>();
+            for (PokemonResponse pokemon : fromDatabase) {
+                byAlias.put(String.valueOf(pokemon.getId()), pokemon);
+                byAlias.put(normalizeKey(pokemon.getName()), pokemon);
+                byAlias.put(normalizeKey(pokemon.getEnglishName()), pokemon);
+            }
+            for (String key : missing) {
+                PokemonResponse hit = byAlias.get(key);
+                if (hit != null) {
+                    found.put(key, hit);
+                }
             }
+            missing.removeIf(found::containsKey);
+        }
 
-            // 요약 정보 생성
-            List<PokemonSummary> summaries = pokemonPage.getContent().stream()
-                    .map(this::convertToSummary)
-                    .collect(Collectors.toList());
+        // 3. PokeAPI (동시 요청)
+        Map<String, CompletableFuture<PokemonResponse>> loads = new LinkedHashMap<>();
+        for (String key : missing) {
+            loads.put(key, CompletableFuture.supplyAsync(() -> getPokemon(key), batchLoader));
+        }
+        for (Map.Entry<String, CompletableFuture<PokemonResponse>> load : loads.entrySet()) {
+            try {
+                found.put(load.getKey(), load.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof PokemonNotFoundException) {
+                    response.getNotFound().add(load.getKey());
+                } else {
+                    log.warn("여러 포켓몬 조회 중 PokeAPI 로드 실패: {} ({})", load.getKey(), e.getCause().getMessage());
+                    response.getUnavailable().add(load.getKey());
+                }
+            }
+        }
+
+        Set<Integer> addedIds = new HashSet<>();
+        for (String key : keys) {
+            PokemonResponse pokemon = found.get(key);
+            if (pokemon != null && addedIds.add(pokemon.getId())) {
+                response.getResults().add(pokemon);
+            }
+        }
+        return response;
+    }
 
-            // 상세 정보 생성 (타입, 특성 포함)
-            List<PokemonResponse> detailedResults = pokemonPage.getContent().stream()
-                    .map(this::convertToResponse)
+    /**
+     * 이름/ID 목록에 해당하는 포켓몬을 타입/특성과 함께 조회
+     */
+    private List<PokemonResponse> findBatchInDatabase(List<String> keys) {
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String key : keys) {
+            Long id = parseIdOrNull(key);
+            if (id != null) {
+                ids.add(id);
+            } else {
+                names.add(key);
+            }
+        }
+        if (!names.isEmpty()) {
+            ids.addAll(pokemonRepository.findIdsByNameIn(names));
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Pokemon> pokemons = pokemonRepository.findAllWithTypesByIdIn(ids);
+        pokemonRepository.findAllWithAbilitiesByIdIn(ids);
+        return pokemons.stream()
+                .map(PokemonMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private static Long parseIdOrNull(String key) {
+        if (key.isEmpty() || key.length() > 18) {
+            return null;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return null;
+            }
+        }
+        return Long.parseLong(key);
+    }
+
+    /**
+     * 포켓몬 목록 조회
+     * detail이 false면 ID/이름 프로젝션만 조회하고 엔티티와 detailedResults를 만들지 않습니다
+     */
+    @Cacheable(value = "pokemonList", key = "#limit + '::' + #offset + '::' + #detail")
+    public PokemonListResponse getAllPokemon(int limit, int offset, boolean detail) {
+        log.debug("포켓몬 목록 조회: limit={}, offset={}, detail={}", limit, offset, detail);
+
+        try {
+            Pageable pageable = PageRequest.of(offset / limit, limit);
+
+            // 1단계: ID/이름만 페이징 (DB에서 LIMIT/OFFSET 적용)
+            Page<PokemonSummaryProjection> summaryPage = pokemonRepository.findSummaryPage(pageable);
+
+            // 요약 정보 생성
+            List<PokemonSummary> summaries = summaryPage.getContent().stream()
+                    .map(PokemonMapper::toSummary)
                     .collect(Collectors.toList());
 
             PokemonListResponse response = new PokemonListResponse();
-            response.setCount((int) pokemonPage.getTotalElements());
+            response.setCount((int) summaryPage.getTotalElements());
             response.setResults(summaries);
-            response.setDetailedResults(detailedResults); // 상세 정보 설정
 
-            if (pokemonPage.hasNext()) {
-                response.setNext("?limit=" + limit + "&offset=" + (offset + limit));
+            // 2단계: 상세 보기일 때만 해당 ID의 타입/특성을 IN 쿼리 두 번으로 조회
+            if (detail) {
+                response.setDetailedResults(findDetailedResults(summaryPage.getContent()));
             }
-            if (pokemonPage.hasPrevious()) {
-                response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit));
+
+            String view = detail ? "" : "&view=summary";
+            if (summaryPage.hasNext()) {
+                response.setNext("?limit=" + limit + "&offset=" + (offset + limit) + view);
+            }
+            if (summaryPage.hasPrevious()) {
+                response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit) + view);
             }
 
-            log.debug("포켓몬 목록 조회 완료: {}개 (상세 정보 포함)", detailedResults.size());
+            log.debug("포켓몬 목록 조회 완료: {}개 (상세 정보 포함: {})", summaries.size(), detail);
             return response;
 
         } catch (Exception e) {
@@ -202,7 +475,26 @@ public class PokemonService {
     }
 
     /**
-     * 타입별 포켓몬 조회
+     * 요약 목록의 포켓몬을 타입/특성과 함께 조회해서 상세 정보로 변환 (ID 순)
+     * 타입과 특성을 따로 fetch join 하여 카테시안 곱과 메모리 페이징(HHH90003004)을 피합니다
+     */
+    private List<PokemonResponse> findDetailedResults(List<PokemonSummaryProjection> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = summaries.stream()
+                .map(PokemonSummaryProjection::getId)
+                .collect(Collectors.toList());
+
+        List<Pokemon> pokemons = pokemonRepository.findAllWithTypesByIdIn(ids);
+        pokemonRepository.findAllWithAbilitiesByIdIn(ids);
+        return pokemons.stream()
+                .map(PokemonMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 타입별 포켓몬 조회 (ID/이름 프로젝션)
      */
     @Cacheable(value = "pokemonByType", key = "#typeName + '::' + #limit + '::' + #offset")
     public PokemonListResponse getPokemonByType(String typeName, int limit, int offset) {
@@ -210,21 +502,21 @@ public class PokemonService {
 
         try {
             Pageable pageable = PageRequest.of(offset / limit, limit);
-            Page<Pokemon> pokemonPage = pokemonRepository.findByTypeName(typeName, pageable);
+            Page<PokemonSummaryProjection> summaryPage = pokemonRepository.findByTypeName(typeName, pageable);
 
-            List<PokemonSummary> summaries = pokemonPage.getContent().stream()
-                    .map(this::convertToSummary)
+            List<PokemonSummary> summaries = summaryPage.getContent().stream()
+                    .map(PokemonMapper::toSummary)
                     .collect(Collectors.toList());
 
             PokemonListResponse response = new PokemonListResponse();
-            response.setCount((int) pokemonPage.getTotalElements());
+            response.setCount((int) summaryPage.getTotalElements());
             response.setResults(summaries);
 
-            if (pokemonPage.hasNext()) {
-                response.setNext("?limit=" + limit + "&offset=" + (offset + limit) + "&type=" + typeName);
+            if (summaryPage.hasNext()) {
+                response.setNext("?limit=" + limit + "&offset=" + (offset + limit) + PokemonFilterIndex.queryParam("type", typeName));
             }
-            if (pokemonPage.hasPrevious()) {
-                response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit) + "&type=" + typeName);
+            if (summaryPage.hasPrevious()) {
+                response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit) + PokemonFilterIndex.queryParam("type", typeName));
             }
 
             return response;
@@ -236,7 +528,7 @@ public class PokemonService {
     }
 
     /**
-     * 특성별 포켓몬 조회
+     * 특성별 포켓몬 조회 (ID/이름 프로젝션)
      */
     @Cacheable(value = "pokemonByAbility", key = "#abilityName + '::' + #limit + '::' + #offset")
     public PokemonListResponse getPokemonByAbility(String abilityName, int limit, int offset) {
@@ -244,21 +536,21 @@ public class PokemonService {
 
         try {
             Pageable pageable = PageRequest.of(offset / limit, limit);
-            Page<Pokemon> pokemonPage = pokemonRepository.findByAbilityName(abilityName, pageable);
+            Page<PokemonSummaryProjection> summaryPage = pokemonRepository.findByAbilityName(abilityName, pageable);
 
-            List<PokemonSummary> summaries = pokemonPage.getContent().stream()
-                    .map(this::convertToSummary)
+            List<PokemonSummary> summaries = summaryPage.getContent().stream()
+                    .map(PokemonMapper::toSummary)
                     .collect(Collectors.toList());
 
             PokemonListResponse response = new PokemonListResponse();
-            response.setCount((int) pokemonPage.getTotalElements());
+            response.setCount((int) summaryPage.getTotalElements());
             response.setResults(summaries);
 
-            if (pokemonPage.hasNext()) {
-                response.setNext("?limit=" + limit + "&offset=" + (offset + limit) + "&ability=" + abilityName);
+            if (summaryPage.hasNext()) {
+                response.setNext("?limit=" + limit + "&offset=" + (offset + limit) + PokemonFilterIndex.queryParam("ability", abilityName));
             }
-            if (pokemonPage.hasPrevious()) {
-                response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit) + "&ability=" + abilityName);
+            if (summaryPage.hasPrevious()) {
+                response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit) + PokemonFilterIndex.queryParam("ability", abilityName));
             }
 
             return response;
@@ -269,10 +561,233 @@ public class PokemonService {
         }
     }
 
+    /**
+     * 타입/특성 조건 조합으로 포켓몬 목록 조회 (예: type=fire&type=flying&hiddenAbility=true)
+     * 스냅샷의 비트맵 인덱스에서 AND/OR/NOT과 개수를 계산하므로 조인/COUNT 쿼리가 없습니다
+     * after가 있으면 커서 모드, 없으면 offset 모드로 페이지를 나눕니다
+     */
+    public PokemonListResponse filterPokemon(PokemonFilterIndex.Query query, String after, int limit, int offset, boolean includeCount) {
+        log.debug("조건별 포켓몬 조회: filter={}, after={}, limit={}, offset={}", query.toQueryString(), after, limit, offset);
+
+        PokedexSnapshot snapshot = snapshotManager.current();
+        long[] matches = snapshot.filter(query.resolve(dictionary::typeNameOf, dictionary::abilityNameOf));
+        int count = PokemonFilterIndex.count(matches);
+        String filter = query.toQueryString();
+
+        PokemonListResponse response = new PokemonListResponse();
+        List<Integer> ids;
+        if (after != null) {
+            int afterId = (int) Math.min(PokemonCursor.decode(after), Integer.MAX_VALUE);
+            ids = PokemonFilterIndex.ids(matches, afterId, 0, limit + 1);
+            if (ids.size() > limit) {
+                ids = ids.subList(0, limit);
+                response.setNext("?after=" + PokemonCursor.encode(ids.get(limit - 1)) + "&limit=" + limit + filter);
+            }
+            if (includeCount) {
+                response.setCount(count);
+            }
+        } else {
+            ids = PokemonFilterIndex.ids(matches, 0, offset, limit);
+            response.setCount(count);
+            if (offset + limit < count) {
+                response.setNext("?limit=" + limit + "&offset=" + (offset + limit) + filter);
+            }
+            if (offset > 0) {
+                response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit) + filter);
+            }
+        }
+
+        response.setResults(ids.stream()
+                .map(id -> PokemonMapper.toSummary(snapshot.get(id)))
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    /**
+     * 여러 조건 조합 조회 (타입/특성 조건 + 키/몸무게 범위 + 정렬)
+     * 스냅샷의 비트맵 인덱스와 정렬된 컬럼 배열만 사용하므로 JPA 조회가 없습니다
+     * @param sort id, name, height, weight (앞에 "-"를 붙이면 내림차순)
+     */
+    public PokemonListResponse queryPokemon(PokemonFilterIndex.Query filter,
+                                            Integer minHeight, Integer maxHeight,
+                                            Integer minWeight, Integer maxWeight,
+                                            String sort, int limit, int offset, boolean detail) {
+        log.debug("조건 조합 조회: filter={}, height={}~{}, weight={}~{}, sort={}, limit={}, offset={}",
+                filter.toQueryString(), minHeight, maxHeight, minWeight, maxWeight, sort, limit, offset);
+
+        boolean descending = sort.startsWith("-");
+        PokemonColumns.SortKey sortKey = sortKeyOf(descending ? sort.substring(1) : sort);
+
+        PokedexSnapshot snapshot = snapshotManager.current();
+        long[] matches = select(snapshot, filter, minHeight, maxHeight, minWeight, maxWeight);
+        int count = PokemonFilterIndex.count(matches);
+
+        List<PokemonResponse> pokemons = snapshot.columns().page(matches, sortKey, descending, offset, limit).stream()
+                .map(snapshot::get)
+                .collect(Collectors.toList());
+
+        PokemonListResponse response = new PokemonListResponse();
+        response.setCount(count);
+        response.setResults(pokemons.stream()
+                .map(PokemonMapper::toSummary)
+                .collect(Collectors.toList()));
+        if (detail) {
+            response.setDetailedResults(pokemons);
+        }
+
+        String params = filter.toQueryString()
+                + (minHeight != null ? "&minHeight=" + minHeight : "")
+                + (maxHeight != null ? "&maxHeight=" + maxHeight : "")
+                + (minWeight != null ? "&minWeight=" + minWeight : "")
+                + (maxWeight != null ? "&maxWeight=" + maxWeight : "")
+                + PokemonFilterIndex.queryParam("sort", sort)
+                + (detail ? "" : "&view=summary");
+        if (offset + limit < count) {
+            response.setNext("?limit=" + limit + "&offset=" + (offset + limit) + params);
+        }
+        if (offset > 0) {
+            response.setPrevious("?limit=" + limit + "&offset=" + Math.max(0, offset - limit) + params);
+        }
+        return response;
+    }
+
+    /**
+     * facet 개수 조회 (타입별/특성별/숨겨진 특성/이중 타입 개수, 키/몸무게 구간별 개수)
+     * 조건이 없으면 스냅샷마다 한 번 계산해 둔 결과를, 조건이 있으면 조건 비트맵 안에서 세어 반환합니다
+     */
+    public PokemonFacetResponse getFacets(PokemonFilterIndex.Query filter,
+                                          Integer minHeight, Integer maxHeight,
+                                          Integer minWeight, Integer maxWeight) {
+        PokedexSnapshot snapshot = snapshotManager.current();
+        if (filter.isEmpty() && minHeight == null && maxHeight == null && minWeight == null && maxWeight == null) {
+            return snapshot.facets();
+        }
+        return snapshot.facets(select(snapshot, filter, minHeight, maxHeight, minWeight, maxWeight));
+    }
+
+    /**
+     * 타입/특성 조건과 키/몸무게 범위에 맞는 포켓몬 ID 비트맵
+     */
+    private long[] select(PokedexSnapshot snapshot, PokemonFilterIndex.Query filter,
+                          Integer minHeight, Integer maxHeight, Integer minWeight, Integer maxWeight) {
+        if (minHeight != null && maxHeight != null && minHeight > maxHeight) {
+            throw new PokemonInvalidArgumentException("minHeight는 maxHeight보다 클 수 없습니다.");
+        }
+        if (minWeight != null && maxWeight != null && minWeight > maxWeight) {
+            throw new PokemonInvalidArgumentException("minWeight는 maxWeight보다 클 수 없습니다.");
+        }
+        long[] matches = snapshot.filter(filter.resolve(dictionary::typeNameOf, dictionary::abilityNameOf));
+        snapshot.columns().retainHeight(matches, minHeight, maxHeight);
+        snapshot.columns().retainWeight(matches, minWeight, maxWeight);
+        return matches;
+    }
+
+    private static PokemonColumns.SortKey sortKeyOf(String sort) {
+        try {
+            return PokemonColumns.SortKey.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new PokemonInvalidArgumentException("sort는 id, name, height, weight 중 하나여야 합니다. (내림차순은 앞에 -)");
+        }
+    }
+
+    /**
+     * 포켓몬 목록 조회 - 커서 모드
+     * WHERE p.id > :after ORDER BY p.id 로 조회하므로 깊은 페이지도 비용이 일정하고,
+     * includeCount가 false면 COUNT 쿼리를 생략합니다
+     */
+    public PokemonListResponse getAllPokemonAfter(String after, int limit, boolean includeCount, boolean detail) {
+        log.debug("포켓몬 목록 조회 (커서): after={}, limit={}, detail={}", after, limit, detail);
+        long afterId = PokemonCursor.decode(after);
+
+        try {
+            List<PokemonSummaryProjection> rows = pokemonRepository.findSummariesAfter(afterId, PageRequest.of(0, limit + 1));
+            boolean hasNext = rows.size() > limit;
+            List<PokemonSummaryProjection> page = hasNext ? rows.subList(0, limit) : rows;
+
+            PokemonListResponse response = toCursorResponse(page, limit, hasNext, detail ? "" : "&view=summary");
+            if (detail) {
+                response.setDetailedResults(findDetailedResults(page));
+            }
+            if (includeCount) {
+                response.setCount((int) pokemonRepository.count());
+            }
+            return response;
+
+        } catch (Exception e) {
+            log.error("포켓몬 목록 조회 중 오류 발생 (커서): after={}", after, e);
+            throw new RuntimeException("포켓몬 목록을 조회할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 타입별 포켓몬 조회 - 커서 모드
+     */
+    public PokemonListResponse getPokemonByTypeAfter(String typeName, String after, int limit, boolean includeCount) {
+        log.debug("타입별 포켓몬 조회 (커서): typeName={}, after={}, limit={}", typeName, after, limit);
+        long afterId = PokemonCursor.decode(after);
+
+        try {
+            List<PokemonSummaryProjection> rows = pokemonRepository.findByTypeNameAfter(typeName, afterId, PageRequest.of(0, limit + 1));
+            boolean hasNext = rows.size() > limit;
+
+            PokemonListResponse response = toCursorResponse(
+                    hasNext ? rows.subList(0, limit) : rows, limit, hasNext, PokemonFilterIndex.queryParam("type", typeName));
+            if (includeCount) {
+                response.setCount((int) pokemonRepository.countByTypeName(typeName));
+            }
+            return response;
+
+        } catch (Exception e) {
+            log.error("타입별 포켓몬 조회 중 오류 발생 (커서): {}", typeName, e);
+            throw new RuntimeException("타입별 포켓몬을 조회할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 특성별 포켓몬 조회 - 커서 모드
+     */
+    public PokemonListResponse getPokemonByAbilityAfter(String abilityName, String after, int limit, boolean includeCount) {
+        log.debug("특성별 포켓몬 조회 (커서): abilityName={}, after={}, limit={}", abilityName, after, limit);
+        long afterId = PokemonCursor.decode(after);
+
+        try {
+            List<PokemonSummaryProjection> rows = pokemonRepository.findByAbilityNameAfter(abilityName, afterId, PageRequest.of(0, limit + 1));
+            boolean hasNext = rows.size() > limit;
+
+            PokemonListResponse response = toCursorResponse(
+                    hasNext ? rows.subList(0, limit) : rows, limit, hasNext, PokemonFilterIndex.queryParam("ability", abilityName));
+            if (includeCount) {
+                response.setCount((int) pokemonRepository.countByAbilityName(abilityName));
+            }
+            return response;
+
+        } catch (Exception e) {
+            log.error("특성별 포켓몬 조회 중 오류 발생 (커서): {}", abilityName, e);
+            throw new RuntimeException("특성별 포켓몬을 조회할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 커서 모드 응답 생성 (다음 페이지가 있으면 마지막 ID로 next 커서 생성)
+     */
+    private PokemonListResponse toCursorResponse(List<PokemonSummaryProjection> rows, int limit, boolean hasNext, String filter) {
+        PokemonListResponse response = new PokemonListResponse();
+        response.setResults(rows.stream()
+                .map(PokemonMapper::toSummary)
+                .collect(Collectors.toList()));
+
+        if (hasNext) {
+            long lastId = rows.get(rows.size() - 1).getId();
+            response.setNext("?after=" + PokemonCursor.encode(lastId) + "&limit=" + limit + filter);
+        }
+        return response;
+    }
+
     /**
      * 포켓몬 검색 기능 (타입, 특성 정보 포함)
+     * 스냅샷의 검색 인덱스에서 찾고, 스냅샷이 아직 없을 때만 DB에서 일치하는 행만 조회합니다
+     * 인덱스 검색이 Redis 왕복보다 빠르므로 검색 결과는 캐시하지 않습니다
      */
-    // @Cacheable(value = "pokemonSearch", key = "#query") // 캐시 임시 비활성화
     public List<PokemonResponse> searchPokemon(String query) {
         log.debug("포켓몬 검색: {}", query);
 
@@ -281,31 +796,16 @@ public class PokemonService {
         }
 
         try {
-            // EntityGraph를 사용하여 연관 정보 포함 조회
-            List<Pokemon> foundPokemon;
-            try {
-                foundPokemon = pokemonRepository.findAllWithAllGraph(PageRequest.of(0, 1000))
-                        .getContent()
-                        .stream()
-                        .filter(pokemon ->
-                                pokemon.getName().toLowerCase().contains(query.toLowerCase()) ||
-                                        pokemon.getEnglishName().toLowerCase().contains(query.toLowerCase()))
-                        .limit(20)
-                        .collect(Collectors.toList());
-                log.debug("EntityGraph로 검색 조회 성공");
-            } catch (Exception e) {
-                log.warn("EntityGraph 검색 실패, 기본 방식으로 검색: {}", e.getMessage());
-                foundPokemon = pokemonRepository.findAll().stream()
-                        .filter(pokemon ->
-                                pokemon.getName().toLowerCase().contains(query.toLowerCase()) ||
-                                        pokemon.getEnglishName().toLowerCase().contains(query.toLowerCase()))
-                        .limit(20)
-                        .collect(Collectors.toList());
-            }
-
-            // 상세 정보로 변환 (타입, 특성 포함)
-            return foundPokemon.stream()
-                    .map(this::convertToResponse)
+            // 1. 메모리 검색 인덱스 (한국어/영어 부분 일치, 초성 검색)
+            PokedexSnapshot snapshot = snapshotManager.current();
+            if (!snapshot.isEmpty()) {
+                return snapshot.search(query, SEARCH_LIMIT);
+            }
+
+            // 2. 스냅샷 생성 전에는 DB에서 이름이 일치하는 포켓몬만 조회 (%, _도 인덱스 검색처럼 글자로 비교)
+            log.debug("도감 스냅샷이 비어 있어 DB에서 검색: {}", query);
+            return pokemonRepository.searchByKeyword(PokemonRepository.escapeLike(query.trim()), PageRequest.of(0, SEARCH_LIMIT)).stream()
+                    .map(PokemonMapper::toResponse)
                     .collect(Collectors.toList());
 
         } catch (Exception e) {
@@ -315,35 +815,17 @@ public class PokemonService {
     }
 
     /**
-     * API에서 포켓몬 로드 후 DB에 저장 (타입, 특성 포함)
+     * PokeAPI에서 불러온 포켓몬을 DB에 저장 (타입, 특성 포함, 호출하는 쪽 트랜잭션 안에서)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Pokemon loadAndSavePokemonFromApi(String nameOrId) {
+    private Pokemon savePokemon(Pokemon pokemon) {
         try {
-            // 1. API에서 기본 정보 조회
-            PokemonResponse apiResponse = pokemonClient.getPokemon(nameOrId);
-            if (apiResponse == null) {
-                throw new PokemonNotFoundException("PokeAPI에서 포켓몬을 찾을 수 없습니다: " + nameOrId);
-            }
-
-            // 2. 동시성 문제 방지
-            Pokemon existingPokemon = pokemonRepository.findById((long) apiResponse.getId()).orElse(null);
+            // 동시성 문제 방지
+            Pokemon existingPokemon = pokemonRepository.findById(pokemon.getId()).orElse(null);
             if (existingPokemon != null) {
                 return existingPokemon;
             }
 
-            // 3. 종족 정보 조회 (한국어 이름용)
-            PokemonSpeciesResponse speciesResponse = null;
-            try {
-                speciesResponse = pokemonClient.getPokeSpecies(nameOrId);
-            } catch (Exception e) {
-                log.warn("종족 정보 조회 실패 (계속 진행): {}", nameOrId);
-            }
-
-            // 4. Entity로 변환 (타입, 특성 포함)
-            Pokemon pokemon = convertApiResponseToEntity(apiResponse, speciesResponse);
-
-            // 5. DB에 저장
+            // DB에 저장
             Pokemon savedPokemon = pokemonRepository.save(pokemon);
             pokemonRepository.flush();
 
@@ -352,13 +834,103 @@ public class PokemonService {
                     savedPokemon.getTypes().size(),
                     savedPokemon.getAbilities().size());
 
+            // 스냅샷 등 메모리 데이터 갱신 알림 (커밋 후 반영)
+            eventPublisher.publishEvent(new PokemonSavedEvent(PokemonMapper.toResponse(savedPokemon)));
+
             return savedPokemon;
 
-        } catch (PokemonNotFoundException e) {
+        } catch (Exception e) {
+            log.error("포켓몬 저장 중 오류 발생: {} (ID: {})", pokemon.getEnglishName(), pokemon.getId(), e);
+            throw new ExternalApiException("포켓몬 데이터를 저장할 수 없습니다: " + pokemon.getEnglishName(), e);
+        }
+    }
+
+    /**
+     * API에서 포켓몬을 불러와 Entity로 변환 (저장하지 않음)
+     * ID나 영어 이름(소문자)으로 요청하면 종족 정보(한국어 이름)를 기본 정보와 동시에 요청해서
+     * PokeAPI 왕복을 한 번 분량만 기다립니다
+     * 한국어 이름처럼 종족 엔드포인트로 바로 찾을 수 없는 키는 기본 정보가 성공한 뒤 그 ID로 종족 정보를 요청합니다
+     * 기본 정보가 404면 미리 보낸 종족 정보 결과는 버립니다
+     */
+    private Pokemon fetchPokemonFromApi(String nameOrId) {
+        // 종족 엔드포인트가 같은 키로 찾을 수 있으면 기본 정보와 동시에 요청
+        CompletableFuture<PokemonSpeciesResponse> speciesRequest = SPECIES_KEY.matcher(nameOrId).matches()
+                ? CompletableFuture.supplyAsync(() -> fetchSpecies(nameOrId), speciesFetcher)
+                : null;
+        try {
+            // 1. API에서 기본 정보 조회
+            PokemonResponse apiResponse;
+            try {
+                apiResponse = pokemonClient.getPokemon(nameOrId);
+            } catch (FeignException.NotFound e) {
+                apiResponse = null;
+            }
+            if (apiResponse == null) {
+                throw new PokemonNotFoundException("PokeAPI에서 포켓몬을 찾을 수 없습니다: " + nameOrId);
+            }
+
+            // 2. 종족 정보 (동시에 보낸 요청의 응답을 기다리거나, 한국어 이름 키면 기본 정보의 ID로 요청)
+            String speciesId = String.valueOf(apiResponse.getId());
+            PokemonSpeciesResponse speciesResponse;
+            if (speciesRequest != null) {
+                speciesResponse = joinSpecies(speciesRequest);
+                // 폼 이름(giratina-altered 등)은 종족 이름과 달라 404가 나므로 ID로 한 번 더 확인
+                if (speciesResponse == null && !nameOrId.equals(speciesId)) {
+                    speciesResponse = fetchSpecies(speciesId);
+                }
+            } else {
+                speciesResponse = fetchSpecies(speciesId);
+            }
+
+            // 3. Entity로 변환 (타입, 특성 포함)
+            return convertApiResponseToEntity(apiResponse, speciesResponse);
+
+        } catch (PokemonNotFoundException | ExternalApiException e) {
+            discard(speciesRequest);
             throw e;
         } catch (Exception e) {
-            log.error("포켓몬 저장 중 오류 발생: {}", nameOrId, e);
-            throw new ExternalApiException("포켓몬 데이터를 저장할 수 없습니다: " + nameOrId, e);
+            discard(speciesRequest);
+            log.error("포켓몬 로드 중 오류 발생: {}", nameOrId, e);
+            throw new ExternalApiException("포켓몬 데이터를 불러올 수 없습니다: " + nameOrId, e);
+        }
+    }
+
+    /**
+     * 동시에 보낸 종족 정보 요청의 결과 (요청 중 던진 예외는 그대로 다시 던짐)
+     */
+    private static PokemonSpeciesResponse joinSpecies(CompletableFuture<PokemonSpeciesResponse> speciesRequest) {
+        try {
+            return speciesRequest.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 기본 정보 조회가 실패했을 때 미리 보낸 종족 정보 요청의 결과를 버림
+     * (이미 보낸 Feign 호출은 끊기지 않으므로 끝나기를 기다리지 않고 결과만 무시)
+     */
+    private static void discard(CompletableFuture<PokemonSpeciesResponse> speciesRequest) {
+        if (speciesRequest != null) {
+            speciesRequest.cancel(false);
+        }
+    }
+
+    /**
+     * 종족 정보 조회 (PokeAPI에 종족이 없으면(404) null -> 영어 이름으로 저장)
+     * 예전에는 모든 실패를 삼키고 영어 이름으로 진행했지만, 지금은 타임아웃, 5xx, 서킷 열림,
+     * 동시 요청 한도 초과 같은 일시적인 실패를 그대로 던져 조회 전체가 503이 됩니다
+     * (영어 이름을 한국어 이름 자리에 영구히 저장해 버리지 않도록 - 재시도는 ResilientClient가 이미 수행)
+     */
+    private PokemonSpeciesResponse fetchSpecies(String speciesKey) {
+        try {
+            return pokemonClient.getPokeSpecies(speciesKey);
+        } catch (FeignException.NotFound e) {
+            log.warn("종족 정보 없음, 영어 이름으로 진행: {}", speciesKey);
+            return null;
         }
     }
 
@@ -393,7 +965,7 @@ public class PokemonService {
         // 타입 관계 설정 (직접 생성 방식)
         if (apiResponse.getTypes() != null) {
             for (com.pokeapi.model.Type typeSlot : apiResponse.getTypes()) {
-                Type type = getOrCreateType(typeSlot.getType().getName());
+                Type type = dictionary.type(typeSlot.getType().getName());
 
                 PokemonType pokemonType = new PokemonType();
                 pokemonType.setPokemon(pokemon);
@@ -408,7 +980,7 @@ public class PokemonService {
         // 특성 관계 설정 (직접 생성 방식)
         if (apiResponse.getAbilities() != null) {
             for (com.pokeapi.model.Ability abilitySlot : apiResponse.getAbilities()) {
-                Ability ability = getOrCreateAbility(abilitySlot.getAbility().getName());
+                Ability ability = dictionary.ability(abilitySlot.getAbility().getName());
 
                 PokemonAbility pokemonAbility = new PokemonAbility();
                 pokemonAbility.setPokemon(pokemon);
@@ -424,165 +996,4 @@ public class PokemonService {
 
         return pokemon;
     }
-
-    /**
-     * 타입 조회 또는 생성
-     */
-    private Type getOrCreateType(String name) {
-        return typeRepository.findByName(name)
-                .orElseGet(() -> {
-                    Type newType = new Type();
-                    newType.setName(name);
-                    newType.setKoreanName(translateTypeToKorean(name));
-                    return typeRepository.save(newType);
-                });
-    }
-
-    /**
-     * 특성 조회 또는 생성
-     */
-    private Ability getOrCreateAbility(String name) {
-        return abilityRepository.findByName(name)
-                .orElseGet(() -> {
-                    Ability newAbility = new Ability();
-                    newAbility.setName(name);
-                    newAbility.setKoreanName(translateAbilityToKorean(name));
-                    return abilityRepository.save(newAbility);
-                });
-    }
-
-    /**
-     * 타입 영어 → 한국어 번역
-     */
-    private String translateTypeToKorean(String englishName) {
-        switch (englishName.toLowerCase()) {
-            case "fire": return "불꽃";
-            case "water": return "물";
-            case "grass": return "풀";
-            case "electric": return "전기";
-            case "psychic": return "에스퍼";
-            case "ice": return "얼음";
-            case "dragon": return "드래곤";
-            case "dark": return "악";
-            case "fairy": return "페어리";
-            case "normal": return "노말";
-            case "fighting": return "격투";
-            case "poison": return "독";
-            case "ground": return "땅";
-            case "flying": return "비행";
-            case "bug": return "벌레";
-            case "rock": return "바위";
-            case "ghost": return "고스트";
-            case "steel": return "강철";
-            default: return englishName;
-        }
-    }
-
-    /**
-     * 특성 영어 → 한국어 번역
-     */
-    private String translateAbilityToKorean(String englishName) {
-        switch (englishName.toLowerCase()) {
-            case "static": return "정전기";
-            case "lightning-rod": return "피뢰침";
-            case "overgrow": return "신록";
-            case "chlorophyll": return "엽록소";
-            case "blaze": return "맹화";
-            case "solar-power": return "태양의힘";
-            case "torrent": return "급류";
-            case "rain-dish": return "젖은접시";
-            case "keen-eye": return "날카로운눈";
-            case "tangled-feet": return "얽힌발";
-            case "big-pecks": return "부풀린가슴";
-            case "guts": return "근성";
-            case "hustle": return "의욕";
-            case "inner-focus": return "정신력";
-            case "early-bird": return "일찍기상";
-            case "scrappy": return "배짱";
-            default: return englishName;
-        }
-    }
-
-    /**
-     * Entity를 Response DTO로 변환 (수정된 버전)
-     */
-    private PokemonResponse convertToResponse(Pokemon pokemon) {
-        PokemonResponse response = new PokemonResponse();
-
-        response.setId(pokemon.getId().intValue());
-        response.setName(pokemon.getName());
-        response.setEnglishName(pokemon.getEnglishName());
-        response.setHeight(pokemon.getHeight());
-        response.setWeight(pokemon.getWeight());
-
-        if (pokemon.getSpriteUrl() != null) {
-            PokemonResponse.Sprites sprites = new PokemonResponse.Sprites();
-            sprites.setFront_default(pokemon.getSpriteUrl());
-            response.setSprites(sprites);
-        }
-
-        try {
-            // 타입 정보 변환 (null 체크 추가)
-            if (pokemon.getTypes() != null && !pokemon.getTypes().isEmpty()) {
-                List<com.pokeapi.model.Type> types = pokemon.getTypes().stream()
-                        .sorted(Comparator.comparing(pt -> pt.getSlot()))
-                        .map(pt -> {
-                            com.pokeapi.model.Type typeDto = new com.pokeapi.model.Type();
-                            typeDto.setSlot(pt.getSlot());
-
-                            com.pokeapi.model.Type.TypeDetail typeDetail = new com.pokeapi.model.Type.TypeDetail();
-                            typeDetail.setName(pt.getType().getName());
-                            typeDetail.setUrl("");
-                            typeDto.setType(typeDetail);
-
-                            return typeDto;
-                        })
-                        .collect(Collectors.toList());
-                response.setTypes(types);
-            } else {
-                log.warn("포켓몬 {}의 타입 정보가 비어있습니다", pokemon.getName());
-                response.setTypes(null);
-            }
-
-            // 특성 정보 변환 (null 체크 추가)
-            if (pokemon.getAbilities() != null && !pokemon.getAbilities().isEmpty()) {
-                List<com.pokeapi.model.Ability> abilities = pokemon.getAbilities().stream()
-                        .sorted(Comparator.comparing(pa -> pa.getSlot()))
-                        .map(pa -> {
-                            com.pokeapi.model.Ability abilityDto = new com.pokeapi.model.Ability();
-                            abilityDto.setSlot(pa.getSlot());
-                            abilityDto.setHidden(pa.getIsHidden());
-
-                            com.pokeapi.model.Ability.AbilityDetail abilityDetail = new com.pokeapi.model.Ability.AbilityDetail();
-                            abilityDetail.setName(pa.getAbility().getName());
-                            abilityDetail.setUrl("");
-                            abilityDto.setAbility(abilityDetail);
-
-                            return abilityDto;
-                        })
-                        .collect(Collectors.toList());
-                response.setAbilities(abilities);
-            } else {
-                log.warn("포켓몬 {}의 특성 정보가 비어있습니다", pokemon.getName());
-                response.setAbilities(null);
-            }
-
-        } catch (Exception e) {
-            log.error("DTO 변환 중 오류 발생: {}", pokemon.getName(), e);
-            response.setTypes(null);
-            response.setAbilities(null);
-        }
-
-        return response;
-    }
-
-    /**
-     * Entity를 Summary DTO로 변환
-     */
-    private PokemonSummary convertToSummary(Pokemon pokemon) {
-        PokemonSummary summary = new PokemonSummary();
-        summary.setName(pokemon.getName());
-        summary.setUrl("/api/pokemon/" + pokemon.getId());
-        return summary;
-    }
-}
\ No newline at end of file
+}
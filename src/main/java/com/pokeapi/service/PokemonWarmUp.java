@@ -0,0 +1,147 @@
+package com.pokeapi.service;
+
+import com.pokeapi.entity.Type;
+import com.pokeapi.model.PokemonListResponse;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.repository.TypeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 직후 워밍업 (PokemonInitialLoader 다음에 실행)
+ *
+ * 저장된 전체 포켓몬으로 개별 응답 JSON, 목록 페이지 캐시를 미리 채우고
+ * 조회/검색 경로를 rounds번 반복 호출해서 Hibernate 쿼리 계획과 JIT를 데워 둡니다.
+ * Spring Boot는 모든 CommandLineRunner가 끝난 뒤에 readiness를 ACCEPTING_TRAFFIC으로 바꾸므로
+ * (/actuator/health/readiness) 워밍업이 끝나기 전의 노드로는 로드밸런서가 트래픽을 보내지 않습니다.
+ */
+@Component
+@Order(2)
+public class PokemonWarmUp implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonWarmUp.class);
+
+    private final PokemonService pokemonService;
+
+    private final PokedexSnapshotManager snapshotManager;
+
+    private final PokemonJsonCache jsonCache;
+
+    private final TypeRepository typeRepository;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;    // 워밍업 활성화 여부
+
+    @Value("${app.warmup.page-size:20}")
+    private int pageSize;   // 미리 채울 목록 페이지 크기 (컨트롤러 기본 limit과 동일)
+
+    @Value("${app.warmup.rounds:2}")
+    private int rounds;     // 조회 경로 반복 횟수 (2회차부터는 캐시 적중 경로)
+
+    public PokemonWarmUp(PokemonService pokemonService, PokedexSnapshotManager snapshotManager,
+                         PokemonJsonCache jsonCache, TypeRepository typeRepository) {
+        this.pokemonService = pokemonService;
+        this.snapshotManager = snapshotManager;
+        this.jsonCache = jsonCache;
+        this.typeRepository = typeRepository;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) {
+            log.info("워밍업이 비활성화되어 있습니다.");
+            return;
+        }
+
+        PokedexSnapshot snapshot = snapshotManager.current();
+        if (snapshot.isEmpty()) {
+            log.info("도감 스냅샷이 비어 있어 워밍업을 건너뜁니다.");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<PokemonResponse> pokemons = snapshot.all();
+        for (int round = 1; round <= rounds; round++) {
+            step("개별 조회", () -> warmUpPokemon(pokemons));
+            step("목록 조회", this::warmUpLists);
+            step("타입별 조회", this::warmUpTypes);
+            step("검색", () -> warmUpSearch(pokemons));
+        }
+
+        log.info("워밍업 완료: 포켓몬 {}마리, {}회 반복 ({}ms)",
+                pokemons.size(), rounds, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * ID / 한국어 이름 / 영어 이름 조회 + 응답 JSON(gzip) 미리 만들기
+     */
+    private void warmUpPokemon(List<PokemonResponse> pokemons) {
+        for (PokemonResponse pokemon : pokemons) {
+            jsonCache.get(pokemonService.getPokemon(String.valueOf(pokemon.getId())));
+            pokemonService.getPokemon(pokemon.getName());
+            if (pokemon.getEnglishName() != null) {
+                pokemonService.getPokemon(pokemon.getEnglishName());
+            }
+        }
+    }
+
+    /**
+     * 전체 목록의 모든 페이지 (상세/요약 보기)
+     */
+    private void warmUpLists() {
+        for (boolean detail : new boolean[]{true, false}) {
+            int offset = 0;
+            PokemonListResponse page;
+            do {
+                page = pokemonService.getAllPokemon(pageSize, offset, detail);
+                offset += pageSize;
+            } while (page.getNext() != null);
+        }
+    }
+
+    /**
+     * 타입별 목록의 모든 페이지 (필터 인덱스 경로)
+     */
+    private void warmUpTypes() {
+        for (Type type : typeRepository.findAllOrderByName()) {
+            PokemonFilterIndex.Query filter = PokemonFilterIndex.Query.of(List.of(type.getName()), null, null);
+            int offset = 0;
+            PokemonListResponse page;
+            do {
+                page = pokemonService.filterPokemon(filter, null, pageSize, offset, false);
+                offset += pageSize;
+            } while (page.getNext() != null);
+        }
+    }
+
+    /**
+     * 이름 앞 글자 검색 (검색 인덱스 경로)
+     */
+    private void warmUpSearch(List<PokemonResponse> pokemons) {
+        for (PokemonResponse pokemon : pokemons) {
+            String name = pokemon.getName();
+            if (name != null && !name.isEmpty()) {
+                pokemonService.searchPokemon(name.substring(0, Math.min(2, name.length())));
+            }
+        }
+    }
+
+    /**
+     * 단계별 실행 (Redis 장애 등으로 한 단계가 실패해도 나머지 단계와 기동은 계속 진행)
+     */
+    private void step(String name, Runnable action) {
+        long start = System.currentTimeMillis();
+        try {
+            action.run();
+            log.debug("워밍업 단계 완료: {} ({}ms)", name, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("워밍업 단계 실패: {} ({})", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package com.pokeapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.entity.Pokemon;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.repository.PokemonRepository;
+import com.pokeapi.util.PokemonMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문형 로드 포켓몬 쓰기 지연(write-behind) 저장기
+ *
+ * PokeAPI에서 불러온 포켓몬을 호출한 쪽에 바로 돌려주고, DB 저장은 크기가 정해진 큐에 넣어
+ * 별도 스레드가 모아서 한 트랜잭션의 JDBC 배치 INSERT로 저장합니다.
+ * 저장 전까지는 대기 목록(findPending)에서 개별 조회를 처리하고, PokemonSavedEvent는 DB 커밋 후에만 발행합니다
+ * (스냅샷 지문 = 목록 ETag가 DB보다 먼저 바뀌면 DB에서 만든 옛 목록이 새 ETag로 캐시되어 계속 304를 받음)
+ *
+ * - 백프레셔: 큐가 offerTimeout 안에 자리가 나지 않으면 호출한 스레드에서 바로 저장
+ * - 재시도: DB 연결/트랜잭션 오류로 저장이 실패하면 지수 백오프로 maxAttempts번까지, 그래도 실패하면 저널 파일(JSON Lines)에 기록
+ * - 혼자서도 저장되지 않는 포켓몬은 묶음의 나머지를 막지 않도록 한 마리씩 다시 저장한 뒤 로그만 남기고 버림
+ * - 저널은 journalRetry 주기와 다음 기동 시 다시 큐에 넣어 저장합니다
+ * - 종료: 큐 끝에 종료 표시를 넣어 저장 스레드가 하던 트랜잭션을 끝내고 스스로 멈추게 합니다 (인터럽트하지 않음)
+ *
+ * 큐에만 있고 저널에 기록되기 전에 프로세스가 죽으면 해당 포켓몬은 저장되지 않지만,
+ * 다음 조회 때 PokeAPI에서 다시 불러오므로 데이터가 틀어지지는 않습니다.
+ */
+@Component
+public class PokemonWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonWriteBehind.class);
+
+    private final PokemonRepository pokemonRepository;
+    private final PokemonBatchWriter batchWriter;
+    private final TypeAbilityDictionary dictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate saveTransaction;
+
+    @Value("${app.write-behind.enabled:false}")
+    private boolean enabled;            // 쓰기 지연 저장 사용 여부 (false면 조회 요청 안에서 바로 저장)
+
+    @Value("${app.write-behind.queue-capacity:1000}")
+    private int queueCapacity;          // 저장 대기 큐 크기
+
+    @Value("${app.write-behind.batch-size:50}")
+    private int batchSize;              // 한 트랜잭션에서 저장할 최대 포켓몬 수
+
+    @Value("${app.write-behind.flush-interval-ms:100}")
+    private long flushIntervalMillis;   // 큐가 비어 있을 때 기다리는 시간
+
+    @Value("${app.write-behind.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;    // 큐가 가득 찼을 때 자리를 기다리는 시간 (넘으면 바로 저장)
+
+    @Value("${app.write-behind.retry.max-attempts:3}")
+    private int maxAttempts;            // 저장 실패 시 최대 시도 횟수
+
+    @Value("${app.write-behind.retry.base-delay-ms:200}")
+    private long baseDelayMillis;       // 재시도 기본 대기 시간
+
+    @Value("${app.write-behind.journal-file:./data/write-behind.jsonl}")
+    private String journalFile;         // 재시도가 모두 실패한 포켓몬을 기록하는 파일
+
+    @Value("${app.write-behind.journal-retry-seconds:60}")
+    private long journalRetrySeconds;   // 저널을 다시 저장해 보는 주기
+
+    @Value("${app.write-behind.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;    // 종료 시 저장 스레드가 남은 큐를 비우길 기다리는 시간
+
+    /** 큐 끝에 넣어 저장 스레드를 멈추게 하는 종료 표시 (같은 객체인지로 구분) */
+    private static final PokemonResponse STOP = new PokemonResponse();
+
+    private BlockingQueue<PokemonResponse> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    /** 아직 DB에 커밋되지 않은 포켓몬 (ID/이름/영어 이름 -> 응답) */
+    private final Map<String, PokemonResponse> pending = new ConcurrentHashMap<>();
+
+    public PokemonWriteBehind(PokemonRepository pokemonRepository,
+                              PokemonBatchWriter batchWriter,
+                              TypeAbilityDictionary dictionary,
+                              ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.pokemonRepository = pokemonRepository;
+        this.batchWriter = batchWriter;
+        this.dictionary = dictionary;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.saveTransaction = new TransactionTemplate(transactionManager);
+        this.saveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::runWriter, "pokemon-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("포켓몬 쓰기 지연 저장 사용 (큐: {}, 배치: {})", queueCapacity, batchSize);
+    }
+
+    /**
+     * 초기 로드가 끝난 뒤 지난 실행에서 저장하지 못한 포켓몬을 다시 큐에 넣음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        if (enabled) {
+            replayJournal();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새 포켓몬 저장 요청 (대기 목록에 바로 올리고, DB 저장과 스냅샷 반영은 커밋 후)
+     */
+    public void submit(PokemonResponse pokemon) {
+        addPending(pokemon);
+
+        if (running) {
+            try {
+                if (queue.offer(pokemon, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("쓰기 지연 큐가 가득 차서 바로 저장합니다: {} (ID: {})", pokemon.getName(), pokemon.getId());
+        }
+        flush(List.of(pokemon));
+    }
+
+    /**
+     * 저장을 기다리는 포켓몬 조회 (ID 또는 한국어/영어 이름, 없으면 null)
+     */
+    public PokemonResponse findPending(String nameOrId) {
+        return nameOrId == null ? null : pending.get(pendingKey(nameOrId));
+    }
+
+    private void addPending(PokemonResponse pokemon) {
+        pending.put(String.valueOf(pokemon.getId()), pokemon);
+        if (pokemon.getName() != null) {
+            pending.put(pendingKey(pokemon.getName()), pokemon);
+        }
+        if (pokemon.getEnglishName() != null) {
+            pending.put(pendingKey(pokemon.getEnglishName()), pokemon);
+        }
+    }
+
+    private void removePending(PokemonResponse pokemon) {
+        pending.remove(String.valueOf(pokemon.getId()), pokemon);
+        if (pokemon.getName() != null) {
+            pending.remove(pendingKey(pokemon.getName()), pokemon);
+        }
+        if (pokemon.getEnglishName() != null) {
+            pending.remove(pendingKey(pokemon.getEnglishName()), pokemon);
+        }
+    }
+
+    private static String pendingKey(String nameOrId) {
+        return nameOrId.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void runWriter() {
+        List<PokemonResponse> batch = new ArrayList<>(batchSize);
+        long journalRetryNanos = TimeUnit.SECONDS.toNanos(journalRetrySeconds);
+        long nextJournalRetry = System.nanoTime() + journalRetryNanos;
+
+        while (true) {
+            try {
+                PokemonResponse first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    boolean stop = batch.removeIf(pokemon -> pokemon == STOP);
+                    if (!batch.isEmpty()) {
+                        flush(batch);
+                    }
+                    batch.clear();
+                    if (stop) {
+                        return;
+                    }
+                }
+                if (System.nanoTime() - nextJournalRetry >= 0) {
+                    replayJournal();
+                    nextJournalRetry = System.nanoTime() + journalRetryNanos;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                batch.clear();
+                log.error("쓰기 지연 저장 스레드 오류 (계속 진행)", e);
+            }
+        }
+    }
+
+    /**
+     * 묶음 저장 (DB 연결/트랜잭션 오류로 실패하면 재시도 후 저널에 기록)
+     */
+    private void flush(List<PokemonResponse> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                persist(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("포켓몬 {}마리 저장 실패, 저널에 기록합니다: {}", batch.size(), e.getMessage());
+                    appendJournal(batch);
+                    return;
+                }
+                log.warn("포켓몬 {}마리 저장 실패, 재시도 {}/{}: {}", batch.size(), attempt, maxAttempts, e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(baseDelayMillis << Math.min(attempt - 1, 10));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    appendJournal(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 묶음 저장 (PokemonBatchWriter.persistAllOrEach - 묶음이 실패하면 한 마리씩)
+     * 혼자서도 저장되지 않는 포켓몬(제약 조건 위반, 변환할 수 없는 타입 등)은 다시 시도해도 같으므로
+     * 저널에 넣지 않고 로그만 남기고 버립니다 (다음 조회 때 PokeAPI에서 다시 불러옴)
+     * DB 연결/트랜잭션 오류는 그대로 던져서 flush()가 재시도하고 저널에 기록합니다
+     */
+    private void persist(List<PokemonResponse> batch) {
+        // 같은 포켓몬이 여러 번 들어왔으면 마지막 것만
+        Map<Long, PokemonResponse> byId = new LinkedHashMap<>();
+        for (PokemonResponse pokemon : batch) {
+            byId.put((long) pokemon.getId(), pokemon);
+        }
+
+        // 다른 경로(동기 저장, 초기 로드, 이전 시도)로 이미 저장된 포켓몬은 건너뜀
+        Set<Long> existingIds = saveTransaction.execute(status ->
+                new HashSet<>(pokemonRepository.findExistingIds(byId.keySet())));
+
+        List<Pokemon> pokemons = new ArrayList<>(byId.size());
+        List<PokemonResponse> rejected = new ArrayList<>();
+        for (PokemonResponse pokemon : byId.values()) {
+            if (existingIds.contains((long) pokemon.getId())) {
+                removePending(pokemon);
+                continue;
+            }
+            try {
+                pokemons.add(toEntity(pokemon));
+            } catch (RuntimeException e) {
+                if (PokemonBatchWriter.isTransientFailure(e)) {
+                    throw e;
+                }
+                log.error("포켓몬을 저장용으로 변환할 수 없습니다: {} (ID: {}) - {}", pokemon.getName(), pokemon.getId(), e.getMessage());
+                rejected.add(pokemon);
+            }
+        }
+        if (pokemons.isEmpty() && rejected.isEmpty()) {
+            return;
+        }
+
+        // 커밋된 포켓몬마다 PokemonSavedEvent로 스냅샷/캐시에 반영하고, 그 다음에 대기 목록에서 뺌 (조회가 비는 틈 없음)
+        Set<Long> savedIds = new HashSet<>();
+        // (이벤트에는 저장된 엔티티로 만든 응답을 넣어 DB의 updatedAt이 Last-Modified에 반영되게 함)
+        batchWriter.persistAllOrEach(pokemons, pokemon -> {
+            savedIds.add(pokemon.getId());
+            eventPublisher.publishEvent(new PokemonSavedEvent(PokemonMapper.toResponse(pokemon)));
+            removePending(byId.get(pokemon.getId()));
+        });
+        for (Pokemon pokemon : pokemons) {
+            if (!savedIds.contains(pokemon.getId())) {
+                rejected.add(byId.get(pokemon.getId()));
+            }
+        }
+        log.debug("쓰기 지연 저장 완료: {}마리", savedIds.size());
+
+        if (!rejected.isEmpty()) {
+            log.error("저장할 수 없는 포켓몬 {}마리를 버립니다 (저널에 넣지 않음): {}", rejected.size(),
+                    rejected.stream().map(pokemon -> pokemon.getName() + "(" + pokemon.getId() + ")").toList());
+            rejected.forEach(this::removePending);
+        }
+    }
+
+    private Pokemon toEntity(PokemonResponse response) {
+        Pokemon pokemon = new Pokemon();
+        pokemon.setId((long) response.getId());
+        pokemon.setName(response.getName());
+        pokemon.setEnglishName(response.getEnglishName());
+        pokemon.setHeight(response.getHeight());
+        pokemon.setWeight(response.getWeight());
+        if (response.getSprites() != null) {
+            pokemon.setSpriteUrl(response.getSprites().getFront_default());
+        }
+
+        if (response.getTypes() != null) {
+            for (com.pokeapi.model.Type typeSlot : response.getTypes()) {
+                pokemon.addType(dictionary.type(typeSlot.getType().getName()), typeSlot.getSlot());
+            }
+        }
+        if (response.getAbilities() != null) {
+            for (com.pokeapi.model.Ability abilitySlot : response.getAbilities()) {
+                pokemon.addAbility(dictionary.ability(abilitySlot.getAbility().getName()),
+                        abilitySlot.getSlot(), abilitySlot.isHidden());
+            }
+        }
+        return pokemon;
+    }
+
+    /**
+     * 저장하지 못한 포켓몬을 저널 끝에 추가 (한 줄에 하나, JSON)
+     */
+    private synchronized void appendJournal(List<PokemonResponse> batch) {
+        if (journalFile == null || journalFile.isBlank()) {
+            log.error("저널 파일이 설정되지 않아 포켓몬 {}마리를 버립니다.", batch.size());
+            batch.forEach(this::removePending);
+            return;
+        }
+        try {
+            Path path = Paths.get(journalFile);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (PokemonResponse pokemon : batch) {
+                    out.write(objectMapper.writeValueAsString(pokemon));
+                    out.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.error("저널 기록 실패, 포켓몬 {}마리를 버립니다: {} ({})", batch.size(), journalFile, e.getMessage());
+            batch.forEach(this::removePending);
+        }
+    }
+
+    /**
+     * 저널의 포켓몬을 다시 큐에 넣음 (큐에 들어가지 못한 나머지는 저널에 남김)
+     */
+    private synchronized void replayJournal() {
+        if (journalFile == null || journalFile.isBlank()) {
+            return;
+        }
+        Path path = Paths.get(journalFile);
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+
+        List<PokemonResponse> journaled = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    journaled.add(objectMapper.readValue(line, PokemonResponse.class));
+                }
+            }
+            Files.delete(path);
+        } catch (IOException e) {
+            log.warn("저널을 읽을 수 없습니다: {} ({})", path, e.getMessage());
+            return;
+        }
+
+        List<PokemonResponse> rest = new ArrayList<>();
+        for (PokemonResponse pokemon : journaled) {
+            addPending(pokemon);
+            if (!running || !queue.offer(pokemon)) {
+                rest.add(pokemon);
+            }
+        }
+        if (!rest.isEmpty()) {
+            appendJournal(rest);
+        }
+        log.info("저널에서 포켓몬 {}마리를 다시 저장 대기열에 넣었습니다.", journaled.size() - rest.size());
+    }
+
+    /**
+     * 종료 시 저장 스레드가 큐를 비우고 멈출 때까지 기다림 (트랜잭션 도중에 인터럽트하지 않음)
+     * 종료 표시 뒤에 들어온 포켓몬이나 시간 안에 저장하지 못한 포켓몬은 이 스레드에서 저장하고, 실패하면 저널에 기록
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!enabled || !running) {
+            return;
+        }
+        running = false;    // 이후 submit()은 호출한 스레드에서 바로 저장
+
+        long timeoutMillis = TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds);
+        if (queue.offer(STOP, timeoutMillis, TimeUnit.MILLISECONDS)) {
+            writer.join(timeoutMillis);
+        }
+        if (writer.isAlive()) {
+            log.warn("쓰기 지연 저장 스레드가 {}초 안에 끝나지 않았습니다. 남은 큐는 이 스레드에서 저장합니다.", shutdownTimeoutSeconds);
+        }
+
+        List<PokemonResponse> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.removeIf(pokemon -> pokemon == STOP);
+        if (!remaining.isEmpty()) {
+            log.info("종료 전 남은 포켓몬 {}마리 저장", remaining.size());
+            try {
+                persist(remaining);
+            } catch (RuntimeException e) {
+                appendJournal(remaining);
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.pokeapi.service;
+
+import com.pokeapi.entity.Ability;
+import com.pokeapi.entity.Type;
+import com.pokeapi.repository.AbilityRepository;
+import com.pokeapi.repository.TypeRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타입/특성 사전 캐시
+ *
+ * 타입(약 18개)과 특성(수백 개)은 거의 바뀌지 않으므로 시작 시 한 번에 읽어 메모리에 보관합니다.
+ * Entity 변환 시 슬롯마다 findByName SELECT를 하지 않고 이 사전에서 꺼내 씁니다.
+ *
+ * 없는 이름은 별도 트랜잭션(REQUIRES_NEW)에서 생성하고,
+ * 다른 요청/인스턴스가 먼저 만들어 unique 제약에 걸리면 다시 조회해서 그 엔티티를 사용합니다.
+ * (호출한 쪽 트랜잭션이 rollback-only가 되지 않도록 생성은 항상 분리된 트랜잭션에서 수행)
+ */
+@Component
+public class TypeAbilityDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(TypeAbilityDictionary.class);
+
+    private final TypeRepository typeRepository;
+    private final AbilityRepository abilityRepository;
+    private final TransactionTemplate requiresNew;
+
+    private final Map<String, Type> types = new ConcurrentHashMap<>();
+    private final Map<String, Ability> abilities = new ConcurrentHashMap<>();
+
+    public TypeAbilityDictionary(TypeRepository typeRepository,
+                                 AbilityRepository abilityRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.typeRepository = typeRepository;
+        this.abilityRepository = abilityRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * DB에 있는 타입/특성을 모두 읽어 사전을 채움
+     */
+    @PostConstruct
+    public void preload() {
+        typeRepository.findAll().forEach(type -> types.put(type.getName(), type));
+        abilityRepository.findAll().forEach(ability -> abilities.put(ability.getName(), ability));
+        log.info("타입/특성 사전 로드 완료: 타입 {}개, 특성 {}개", types.size(), abilities.size());
+    }
+
+    /**
+     * 영어 이름으로 타입 조회 (없으면 생성)
+     * DB 조회/생성은 맵 밖에서 하고 먼저 들어간 엔티티를 사용합니다
+     * (computeIfAbsent 안에서 하면 JDBC I/O 동안 같은 버킷의 다른 이름까지 막고,
+     *  호출한 쪽 트랜잭션의 커넥션을 잡은 채 두 번째 커넥션을 기다리다 풀이 부족하면 멈출 수 있음)
+     */
+    public Type type(String name) {
+        Type cached = types.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Type found = findOrCreateType(name);
+        Type winner = types.putIfAbsent(name, found);
+        return winner != null ? winner : found;
+    }
+
+    /**
+     * 영어 이름으로 특성 조회 (없으면 생성, DB 작업은 type()과 같이 맵 밖에서)
+     */
+    public Ability ability(String name) {
+        Ability cached = abilities.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Ability found = findOrCreateAbility(name);
+        Ability winner = abilities.putIfAbsent(name, found);
+        return winner != null ? winner : found;
+    }
+
+    /**
+     * 한국어 이름이면 영어 이름으로 변환 (사전에 없는 이름은 그대로 반환, 새로 생성하지 않음)
+     */
+    public String typeNameOf(String nameOrKoreanName) {
+        if (types.containsKey(nameOrKoreanName)) {
+            return nameOrKoreanName;
+        }
+        for (Type type : types.values()) {
+            if (nameOrKoreanName.equals(type.getKoreanName())) {
+                return type.getName();
+            }
+        }
+        return nameOrKoreanName;
+    }
+
+    /**
+     * 한국어 이름이면 영어 이름으로 변환 (사전에 없는 이름은 그대로 반환, 새로 생성하지 않음)
+     */
+    public String abilityNameOf(String nameOrKoreanName) {
+        if (abilities.containsKey(nameOrKoreanName)) {
+            return nameOrKoreanName;
+        }
+        for (Ability ability : abilities.values()) {
+            if (nameOrKoreanName.equals(ability.getKoreanName())) {
+                return ability.getName();
+            }
+        }
+        return nameOrKoreanName;
+    }
+
+    private Type findOrCreateType(String name) {
+        try {
+            return requiresNew.execute(status -> typeRepository.findByName(name)
+                    .orElseGet(() -> {
+                        Type saved = typeRepository.saveAndFlush(new Type(name, translateTypeToKorean(name)));
+                        log.info("새 타입 생성: {} ({})", name, saved.getKoreanName());
+                        return saved;
+                    }));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 생성함 -> 그쪽에서 만든 타입 사용
+            log.debug("타입 동시 생성 감지, 재조회: {}", name);
+            return typeRepository.findByName(name).orElseThrow(() -> e);
+        }
+    }
+
+    private Ability findOrCreateAbility(String name) {
+        try {
+            return requiresNew.execute(status -> abilityRepository.findByName(name)
+                    .orElseGet(() -> {
+                        Ability saved = abilityRepository.saveAndFlush(new Ability(name, translateAbilityToKorean(name)));
+                        log.info("새 특성 생성: {} ({})", name, saved.getKoreanName());
+                        return saved;
+                    }));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 생성함 -> 그쪽에서 만든 특성 사용
+            log.debug("특성 동시 생성 감지, 재조회: {}", name);
+            return abilityRepository.findByName(name).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 타입 영어 -> 한국어 번역
+     */
+    private static String translateTypeToKorean(String englishName) {
+        switch (englishName.toLowerCase()) {
+            case "fire": return "불꽃";
+            case "water": return "물";
+            case "grass": return "풀";
+            case "electric": return "전기";
+            case "psychic": return "에스퍼";
+            case "ice": return "얼음";
+            case "dragon": return "드래곤";
+            case "dark": return "악";
+            case "fairy": return "페어리";
+            case "normal": return "노말";
+            case "fighting": return "격투";
+            case "poison": return "독";
+            case "ground": return "땅";
+            case "flying": return "비행";
+            case "bug": return "벌레";
+            case "rock": return "바위";
+            case "ghost": return "고스트";
+            case "steel": return "강철";
+            default: return englishName;
+        }
+    }
+
+    /**
+     * 특성 영어 -> 한국어 번역
+     */
+    private static String translateAbilityToKorean(String englishName) {
+        switch (englishName.toLowerCase()) {
+            case "static": return "정전기";
+            case "lightning-rod": return "피뢰침";
+            case "overgrow": return "신록";
+            case "chlorophyll": return "엽록소";
+            case "blaze": return "맹화";
+            case "solar-power": return "태양의힘";
+            case "torrent": return "급류";
+            case "rain-dish": return "젖은접시";
+            case "keen-eye": return "날카로운눈";
+            case "tangled-feet": return "얽힌발";
+            case "big-pecks": return "부풀린가슴";
+            case "guts": return "근성";
+            case "hustle": return "의욕";
+            case "inner-focus": return "정신력";
+            case "early-bird": return "일찍기상";
+            case "scrappy": return "배짱";
+            case "shed-skin": return "탈피";
+            case "marvel-scale": return "이상한비늘";
+            case "intimidate": return "위협";
+            case "hyper-cutter": return "괴력집게";
+            case "sand-veil": return "모래숨기";
+            case "poison-point": return "독가시";
+            case "rivalry": return "투쟁심";
+            case "sheer-force": return "우격다짐";
+            case "cute-charm": return "헤롱헤롱바디";
+            case "magic-guard": return "매직가드";
+            case "flash-fire": return "타오르는불꽃";
+            case "run-away": return "도주";
+            case "synchronize": return "싱크로";
+            case "clear-body": return "클리어바디";
+            case "natural-cure": return "자연회복";
+            case "serene-grace": return "하늘의은총";
+            case "swift-swim": return "쓱쓱";
+            case "thick-fat": return "두꺼운지방";
+            case "vital-spirit": return "의기양양";
+            case "white-smoke": return "하얀연기";
+            case "pure-power": return "순수한힘";
+            case "shell-armor": return "조가비갑옷";
+            case "air-lock": return "에어록";
+            case "motor-drive": return "전기엔진";
+            case "mold-breaker": return "틀깨기";
+            case "super-luck": return "대운";
+            case "aftermath": return "유폭";
+            case "anticipation": return "위험예지";
+            case "forewarn": return "예고";
+            case "unaware": return "천진";
+            case "tinted-lens": return "색안경";
+            case "filter": return "필터";
+            case "slow-start": return "슬로스타트";
+            default: return englishName;
+        }
+    }
+}
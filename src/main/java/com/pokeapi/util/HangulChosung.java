@@ -0,0 +1,62 @@
+package com.pokeapi.util;
+
+/**
+ * 한글 초성 유틸
+ *
+ * 완성형 한글(가~힣)은 (코드 - 0xAC00) / 588 로 초성 순번을 구할 수 있습니다.
+ * 예: "피카츄" -> "ㅍㅋㅊ"
+ */
+public final class HangulChosung {
+
+    private static final char HANGUL_BEGIN = 0xAC00;
+    private static final char HANGUL_END = 0xD7A3;
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChosung() {
+    }
+
+    /**
+     * 문자열의 완성형 한글을 초성으로 바꿈 (한글이 아닌 문자는 그대로 유지)
+     */
+    public static String extract(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                result.append(CHOSUNG[(c - HANGUL_BEGIN) / JUNGSUNG_JONGSUNG_COUNT]);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 초성(ㄱ~ㅎ)만으로 이루어진 문자열인지 확인
+     */
+    public static boolean isChosungOnly(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isChosung(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,220 @@
+package com.pokeapi.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 오프라인 데이터셋 번들 (포켓몬 / 타입 / 특성 / 연결 테이블)
+ *
+ * 형식: ["PKDX"][포맷 버전 int][타입][특성][포켓몬][포켓몬-타입][포켓몬-특성]
+ * - 테이블마다 행 수(int) 다음에 컬럼을 하나씩 통째로 기록합니다 (컬럼 단위 저장)
+ * - long/int는 고정 길이(big-endian), 문자열은 바이트 길이(int, null은 -1) + UTF-8
+ * - null 정수(키/몸무게)는 NULL_INT, null 시각(updated_at, epoch 밀리초)은 NULL_LONG으로 기록
+ *
+ * 읽을 때는 파일을 메모리 매핑해서 복사 없이 컬럼 배열로 바로 읽습니다.
+ * 포맷 버전이 다른 파일은 read()가 null을 반환합니다.
+ */
+public record PokedexBundle(Dictionary types,
+                            Dictionary abilities,
+                            Pokemons pokemons,
+                            Links pokemonTypes,
+                            Links pokemonAbilities) {
+
+    public static final int FORMAT_VERSION = 2;     // 2: 포켓몬 updated_at 컬럼 추가
+
+    public static final int NULL_INT = Integer.MIN_VALUE;
+
+    public static final long NULL_LONG = Long.MIN_VALUE;
+
+    private static final int MAGIC = 0x504B4458;    // "PKDX"
+
+    /**
+     * 타입/특성 사전 (ID, 영어 이름, 한국어 이름)
+     */
+    public record Dictionary(long[] ids, String[] names, String[] koreanNames) {
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * 포켓몬 기본 정보 (키/몸무게가 없으면 NULL_INT, 마지막 변경 시각이 없으면 NULL_LONG)
+     * 마지막 변경 시각을 그대로 옮겨야 같은 번들을 가져온 노드끼리 Last-Modified가 같아집니다
+     */
+    public record Pokemons(long[] ids, String[] names, String[] englishNames,
+                           int[] heights, int[] weights, String[] spriteUrls, long[] updatedAts) {
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * 연결 테이블 (포켓몬 ID, 타입/특성 ID, 슬롯, 숨김 특성 여부 - 타입은 모두 false)
+     */
+    public record Links(long[] pokemonIds, long[] targetIds, int[] slots, boolean[] hidden) {
+        public int size() {
+            return pokemonIds.length;
+        }
+    }
+
+    /**
+     * 번들 읽기 (메모리 매핑)
+     * @return 번들, 포맷 버전이 다르면 null
+     */
+    public static PokedexBundle read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            return new PokedexBundle(
+                    readDictionary(buffer),
+                    readDictionary(buffer),
+                    readPokemons(buffer),
+                    readLinks(buffer),
+                    readLinks(buffer));
+        }
+    }
+
+    /**
+     * 번들 저장 (임시 파일에 쓴 뒤 교체하므로 중간에 실패해도 기존 파일은 유지)
+     * @return 저장한 바이트 수
+     */
+    public long write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeDictionary(out, types);
+            writeDictionary(out, abilities);
+            writePokemons(out, pokemons);
+            writeLinks(out, pokemonTypes);
+            writeLinks(out, pokemonAbilities);
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return Files.size(path);
+    }
+
+    private static Dictionary readDictionary(ByteBuffer in) {
+        int size = in.getInt();
+        return new Dictionary(readLongs(in, size), readStrings(in, size), readStrings(in, size));
+    }
+
+    private static void writeDictionary(DataOutputStream out, Dictionary dictionary) throws IOException {
+        out.writeInt(dictionary.size());
+        writeLongs(out, dictionary.ids());
+        writeStrings(out, dictionary.names());
+        writeStrings(out, dictionary.koreanNames());
+    }
+
+    private static Pokemons readPokemons(ByteBuffer in) {
+        int size = in.getInt();
+        return new Pokemons(readLongs(in, size), readStrings(in, size), readStrings(in, size),
+                readInts(in, size), readInts(in, size), readStrings(in, size), readLongs(in, size));
+    }
+
+    private static void writePokemons(DataOutputStream out, Pokemons pokemons) throws IOException {
+        out.writeInt(pokemons.size());
+        writeLongs(out, pokemons.ids());
+        writeStrings(out, pokemons.names());
+        writeStrings(out, pokemons.englishNames());
+        writeInts(out, pokemons.heights());
+        writeInts(out, pokemons.weights());
+        writeStrings(out, pokemons.spriteUrls());
+        writeLongs(out, pokemons.updatedAts());
+    }
+
+    private static Links readLinks(ByteBuffer in) {
+        int size = in.getInt();
+        long[] pokemonIds = readLongs(in, size);
+        long[] targetIds = readLongs(in, size);
+        int[] slots = readInts(in, size);
+        boolean[] hidden = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            hidden[i] = in.get() != 0;
+        }
+        return new Links(pokemonIds, targetIds, slots, hidden);
+    }
+
+    private static void writeLinks(DataOutputStream out, Links links) throws IOException {
+        out.writeInt(links.size());
+        writeLongs(out, links.pokemonIds());
+        writeLongs(out, links.targetIds());
+        writeInts(out, links.slots());
+        for (boolean hidden : links.hidden()) {
+            out.writeByte(hidden ? 1 : 0);
+        }
+    }
+
+    private static long[] readLongs(ByteBuffer in, int size) {
+        long[] values = new long[size];
+        in.asLongBuffer().get(values);
+        in.position(in.position() + size * Long.BYTES);
+        return values;
+    }
+
+    private static void writeLongs(DataOutputStream out, long[] values) throws IOException {
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static int[] readInts(ByteBuffer in, int size) {
+        int[] values = new int[size];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + size * Integer.BYTES);
+        return values;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer in, int size) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            int length = in.getInt();
+            if (length < 0) {
+                continue;
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+        for (String value : values) {
+            if (value == null) {
+                out.writeInt(-1);
+                continue;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+}
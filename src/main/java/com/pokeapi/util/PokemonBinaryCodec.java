@@ -0,0 +1,377 @@
+package com.pokeapi.util;
+
+import com.pokeapi.model.Ability;
+import com.pokeapi.model.PokemonListResponse;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.PokemonSpeciesResponse;
+import com.pokeapi.model.PokemonSummary;
+import com.pokeapi.model.Type;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 값용 바이너리 인코더/디코더
+ *
+ * 형식: [포맷 버전 1바이트][타입 태그 1바이트][필드...]
+ * - 필드는 정해진 순서로만 기록하고 클래스/필드 이름은 쓰지 않습니다 (JDK 직렬화 대비 크기가 작음)
+ * - 정수는 varint, 문자열은 (길이 + 1) varint + UTF-8, null은 0
+ * - 알 수 없는 타입은 JDK 직렬화로 기록 (TAG_JDK)
+ *
+ * 필드 순서나 구성이 바뀌면 FORMAT_VERSION을 올립니다.
+ * 버전이 다른 값(이전 배포의 캐시 등)은 decode()가 null을 돌려 캐시 미스로 처리됩니다.
+ */
+public final class PokemonBinaryCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte TAG_POKEMON = 1;
+    private static final byte TAG_POKEMON_LIST = 2;
+    private static final byte TAG_SUMMARY = 3;
+    private static final byte TAG_SPECIES = 4;
+    private static final byte TAG_POKEMON_RESPONSES = 5;
+    private static final byte TAG_JDK = 127;
+
+    private PokemonBinaryCodec() {
+    }
+
+    public static byte[] encode(Object value) {
+        Output out = new Output();
+        out.writeByte(FORMAT_VERSION);
+
+        if (value instanceof PokemonResponse) {
+            out.writeByte(TAG_POKEMON);
+            writePokemon(out, (PokemonResponse) value);
+        } else if (value instanceof PokemonListResponse) {
+            out.writeByte(TAG_POKEMON_LIST);
+            writePokemonList(out, (PokemonListResponse) value);
+        } else if (value instanceof PokemonSummary) {
+            out.writeByte(TAG_SUMMARY);
+            writeSummary(out, (PokemonSummary) value);
+        } else if (value instanceof PokemonSpeciesResponse) {
+            out.writeByte(TAG_SPECIES);
+            writeSpecies(out, (PokemonSpeciesResponse) value);
+        } else if (isPokemonResponseList(value)) {
+            out.writeByte(TAG_POKEMON_RESPONSES);
+            @SuppressWarnings("unchecked")
+            List<PokemonResponse> pokemons = (List<PokemonResponse>) value;
+            writeList(out, pokemons, PokemonBinaryCodec::writePokemon);
+        } else {
+            out.writeByte(TAG_JDK);
+            out.writeRaw(jdkSerialize(value));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return 디코딩한 값, 포맷 버전이 다르면 null
+     */
+    public static Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+
+        Input in = new Input(bytes, 2);
+        switch (bytes[1]) {
+            case TAG_POKEMON: return readPokemon(in);
+            case TAG_POKEMON_LIST: return readPokemonList(in);
+            case TAG_SUMMARY: return readSummary(in);
+            case TAG_SPECIES: return readSpecies(in);
+            case TAG_POKEMON_RESPONSES: return readList(in, PokemonBinaryCodec::readPokemon);
+            case TAG_JDK: return jdkDeserialize(bytes, 2);
+            default: throw new IllegalArgumentException("알 수 없는 캐시 값 타입: " + bytes[1]);
+        }
+    }
+
+    // ===== PokemonResponse =====
+
+    private static void writePokemon(Output out, PokemonResponse pokemon) {
+        out.writeVarInt(pokemon.getId());
+        out.writeString(pokemon.getName());
+        out.writeString(pokemon.getEnglishName());
+        out.writeVarInt(pokemon.getHeight());
+        out.writeVarInt(pokemon.getWeight());
+        out.writeString(pokemon.getSprites() != null ? pokemon.getSprites().getFront_default() : null);
+        out.writeBoolean(pokemon.getSprites() != null);
+        writeList(out, pokemon.getTypes(), (o, type) -> {
+            o.writeVarInt(type.getSlot());
+            o.writeString(type.getType() != null ? type.getType().getName() : null);
+            o.writeString(type.getType() != null ? type.getType().getUrl() : null);
+            o.writeBoolean(type.getType() != null);
+        });
+        writeList(out, pokemon.getAbilities(), (o, ability) -> {
+            o.writeVarInt(ability.getSlot());
+            o.writeBoolean(ability.isHidden());
+            o.writeString(ability.getAbility() != null ? ability.getAbility().getName() : null);
+            o.writeString(ability.getAbility() != null ? ability.getAbility().getUrl() : null);
+            o.writeBoolean(ability.getAbility() != null);
+        });
+    }
+
+    private static PokemonResponse readPokemon(Input in) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(in.readVarInt());
+        pokemon.setName(in.readString());
+        pokemon.setEnglishName(in.readString());
+        pokemon.setHeight(in.readVarInt());
+        pokemon.setWeight(in.readVarInt());
+        String sprite = in.readString();
+        if (in.readBoolean()) {
+            PokemonResponse.Sprites sprites = new PokemonResponse.Sprites();
+            sprites.setFront_default(sprite);
+            pokemon.setSprites(sprites);
+        }
+        pokemon.setTypes(readList(in, i -> {
+            Type type = new Type();
+            type.setSlot(i.readVarInt());
+            String name = i.readString();
+            String url = i.readString();
+            if (i.readBoolean()) {
+                Type.TypeDetail detail = new Type.TypeDetail();
+                detail.setName(name);
+                detail.setUrl(url);
+                type.setType(detail);
+            }
+            return type;
+        }));
+        pokemon.setAbilities(readList(in, i -> {
+            Ability ability = new Ability();
+            ability.setSlot(i.readVarInt());
+            ability.setHidden(i.readBoolean());
+            String name = i.readString();
+            String url = i.readString();
+            if (i.readBoolean()) {
+                Ability.AbilityDetail detail = new Ability.AbilityDetail();
+                detail.setName(name);
+                detail.setUrl(url);
+                ability.setAbility(detail);
+            }
+            return ability;
+        }));
+        return pokemon;
+    }
+
+    // ===== PokemonListResponse / PokemonSummary =====
+
+    private static void writePokemonList(Output out, PokemonListResponse list) {
+        out.writeNullableVarInt(list.getCount());
+        out.writeString(list.getNext());
+        out.writeString(list.getPrevious());
+        writeList(out, list.getResults(), PokemonBinaryCodec::writeSummary);
+        writeList(out, list.getDetailedResults(), PokemonBinaryCodec::writePokemon);
+    }
+
+    private static PokemonListResponse readPokemonList(Input in) {
+        PokemonListResponse list = new PokemonListResponse();
+        list.setCount(in.readNullableVarInt());
+        list.setNext(in.readString());
+        list.setPrevious(in.readString());
+        list.setResults(readList(in, PokemonBinaryCodec::readSummary));
+        list.setDetailedResults(readList(in, PokemonBinaryCodec::readPokemon));
+        return list;
+    }
+
+    private static void writeSummary(Output out, PokemonSummary summary) {
+        out.writeString(summary.getName());
+        out.writeString(summary.getUrl());
+    }
+
+    private static PokemonSummary readSummary(Input in) {
+        PokemonSummary summary = new PokemonSummary();
+        summary.setName(in.readString());
+        summary.setUrl(in.readString());
+        return summary;
+    }
+
+    // ===== PokemonSpeciesResponse =====
+
+    private static void writeSpecies(Output out, PokemonSpeciesResponse species) {
+        writeList(out, species.getNames(), (o, name) -> {
+            o.writeString(name.getName());
+            o.writeString(name.getLanguage() != null ? name.getLanguage().getName() : null);
+            o.writeBoolean(name.getLanguage() != null);
+        });
+    }
+
+    private static PokemonSpeciesResponse readSpecies(Input in) {
+        PokemonSpeciesResponse species = new PokemonSpeciesResponse();
+        species.setNames(readList(in, i -> {
+            PokemonSpeciesResponse.Name name = new PokemonSpeciesResponse.Name();
+            name.setName(i.readString());
+            String language = i.readString();
+            if (i.readBoolean()) {
+                PokemonSpeciesResponse.Language lang = new PokemonSpeciesResponse.Language();
+                lang.setName(language);
+                name.setLanguage(lang);
+            }
+            return name;
+        }));
+        return species;
+    }
+
+    // ===== 공통 =====
+
+    private interface FieldWriter<T> {
+        void write(Output out, T value);
+    }
+
+    private interface FieldReader<T> {
+        T read(Input in);
+    }
+
+    private static <T> void writeList(Output out, List<T> values, FieldWriter<T> writer) {
+        if (values == null) {
+            out.writeVarInt(0);
+            return;
+        }
+        out.writeVarInt(values.size() + 1);
+        for (T value : values) {
+            writer.write(out, value);
+        }
+    }
+
+    private static <T> List<T> readList(Input in, FieldReader<T> reader) {
+        int size = in.readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(reader.read(in));
+        }
+        return values;
+    }
+
+    private static boolean isPokemonResponseList(Object value) {
+        if (!(value instanceof List)) {
+            return false;
+        }
+        for (Object element : (List<?>) value) {
+            if (!(element instanceof PokemonResponse)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] jdkSerialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject((Serializable) value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object jdkDeserialize(byte[] bytes, int offset) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes, offset, bytes.length - offset))) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("캐시 값 클래스를 찾을 수 없습니다", e);
+        }
+    }
+
+    private static final class Output {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+        void writeByte(int value) {
+            bytes.write(value);
+        }
+
+        void writeRaw(byte[] raw) {
+            bytes.write(raw, 0, raw.length);
+        }
+
+        void writeBoolean(boolean value) {
+            bytes.write(value ? 1 : 0);
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                bytes.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes.write(value);
+        }
+
+        void writeNullableVarInt(Integer value) {
+            writeVarInt(value == null ? 0 : value + 1);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8.length + 1);
+            writeRaw(utf8);
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+
+    private static final class Input {
+        private final byte[] bytes;
+        private int position;
+
+        Input(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 입니다");
+        }
+
+        Integer readNullableVarInt() {
+            int value = readVarInt();
+            return value == 0 ? null : value - 1;
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (position + length > bytes.length) {
+                throw new IllegalArgumentException("캐시 값이 잘렸습니다");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("캐시 값이 잘렸습니다");
+            }
+            return bytes[position++] & 0xFF;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pokeapi.util;
+
+import com.pokeapi.exception.PokemonInvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 커서 (keyset 페이징용)
+ *
+ * 마지막으로 받은 포켓몬 ID를 URL-safe Base64로 감싼 불투명 문자열입니다.
+ * 첫 페이지는 숫자 ID를 그대로 넘겨도 됩니다 (예: ?after=0)
+ */
+public final class PokemonCursor {
+
+    private static final String PREFIX = "id:";
+
+    private PokemonCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 -> 마지막 포켓몬 ID
+     */
+    public static long decode(String cursor) {
+        try {
+            if (cursor.chars().allMatch(Character::isDigit)) {
+                return Long.parseLong(cursor);
+            }
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(decoded);
+            }
+            long lastId = Long.parseLong(decoded.substring(PREFIX.length()));
+            if (lastId < 0) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            throw new PokemonInvalidArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
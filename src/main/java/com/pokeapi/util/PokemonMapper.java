@@ -1,4 +1,130 @@
 package com.pokeapi.util;
 
-public class PokemonMapper {
+import com.pokeapi.entity.Pokemon;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.PokemonSummary;
+import com.pokeapi.repository.PokemonSummaryProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entity -> DTO 변환 유틸리티
+ * PokemonService, 스냅샷 등 여러 곳에서 같은 변환 규칙을 사용하기 위해 분리
+ */
+public final class PokemonMapper {
+
+    private static final Logger log = LoggerFactory.getLogger(PokemonMapper.class);
+
+    private PokemonMapper() {}
+
+    /**
+     * Entity를 Response DTO로 변환 (타입, 특성 포함)
+     */
+    public static PokemonResponse toResponse(Pokemon pokemon) {
+        PokemonResponse response = new PokemonResponse();
+
+        response.setId(pokemon.getId().intValue());
+        response.setName(pokemon.getName());
+        response.setEnglishName(pokemon.getEnglishName());
+        response.setHeight(pokemon.getHeight());
+        response.setWeight(pokemon.getWeight());
+        if (pokemon.getUpdatedAt() != null) {
+            response.setUpdatedAt(pokemon.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        if (pokemon.getSpriteUrl() != null) {
+            PokemonResponse.Sprites sprites = new PokemonResponse.Sprites();
+            sprites.setFront_default(pokemon.getSpriteUrl());
+            response.setSprites(sprites);
+        }
+
+        try {
+            // 타입 정보 변환 (null 체크 추가)
+            if (pokemon.getTypes() != null && !pokemon.getTypes().isEmpty()) {
+                List<com.pokeapi.model.Type> types = pokemon.getTypes().stream()
+                        .sorted(Comparator.comparing(pt -> pt.getSlot()))
+                        .map(pt -> {
+                            com.pokeapi.model.Type typeDto = new com.pokeapi.model.Type();
+                            typeDto.setSlot(pt.getSlot());
+
+                            com.pokeapi.model.Type.TypeDetail typeDetail = new com.pokeapi.model.Type.TypeDetail();
+                            typeDetail.setName(pt.getType().getName());
+                            typeDetail.setUrl("");
+                            typeDto.setType(typeDetail);
+
+                            return typeDto;
+                        })
+                        .collect(Collectors.toList());
+                response.setTypes(types);
+            } else {
+                log.warn("포켓몬 {}의 타입 정보가 비어있습니다", pokemon.getName());
+                response.setTypes(null);
+            }
+
+            // 특성 정보 변환 (null 체크 추가)
+            if (pokemon.getAbilities() != null && !pokemon.getAbilities().isEmpty()) {
+                List<com.pokeapi.model.Ability> abilities = pokemon.getAbilities().stream()
+                        .sorted(Comparator.comparing(pa -> pa.getSlot()))
+                        .map(pa -> {
+                            com.pokeapi.model.Ability abilityDto = new com.pokeapi.model.Ability();
+                            abilityDto.setSlot(pa.getSlot());
+                            abilityDto.setHidden(pa.getIsHidden());
+
+                            com.pokeapi.model.Ability.AbilityDetail abilityDetail = new com.pokeapi.model.Ability.AbilityDetail();
+                            abilityDetail.setName(pa.getAbility().getName());
+                            abilityDetail.setUrl("");
+                            abilityDto.setAbility(abilityDetail);
+
+                            return abilityDto;
+                        })
+                        .collect(Collectors.toList());
+                response.setAbilities(abilities);
+            } else {
+                log.warn("포켓몬 {}의 특성 정보가 비어있습니다", pokemon.getName());
+                response.setAbilities(null);
+            }
+
+        } catch (Exception e) {
+            log.error("DTO 변환 중 오류 발생: {}", pokemon.getName(), e);
+            response.setTypes(null);
+            response.setAbilities(null);
+        }
+
+        return response;
+    }
+
+    /**
+     * Entity를 Summary DTO로 변환
+     */
+    public static PokemonSummary toSummary(Pokemon pokemon) {
+        PokemonSummary summary = new PokemonSummary();
+        summary.setName(pokemon.getName());
+        summary.setUrl("/api/pokemon/" + pokemon.getId());
+        return summary;
+    }
+
+    /**
+     * 응답 DTO -> 요약 DTO (스냅샷에서 목록 생성)
+     */
+    public static PokemonSummary toSummary(PokemonResponse pokemon) {
+        PokemonSummary summary = new PokemonSummary();
+        summary.setName(pokemon.getName());
+        summary.setUrl("/api/pokemon/" + pokemon.getId());
+        return summary;
+    }
+
+    /**
+     * 요약 프로젝션 -> 요약 DTO (엔티티 조회 없이 목록 생성)
+     */
+    public static PokemonSummary toSummary(PokemonSummaryProjection projection) {
+        PokemonSummary summary = new PokemonSummary();
+        summary.setName(projection.getName());
+        summary.setUrl("/api/pokemon/" + projection.getId());
+        return summary;
+    }
 }
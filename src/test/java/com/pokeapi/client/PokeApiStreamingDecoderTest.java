@@ -0,0 +1,174 @@
+package com.pokeapi.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.PokemonSpeciesResponse;
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PokeAPI 스트리밍 디코더 테스트")
+class PokeApiStreamingDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /** 기존 방식 (Jackson 데이터 바인딩) */
+    private final Decoder bindingDecoder = (response, type) ->
+            objectMapper.readValue(response.body().asInputStream(), objectMapper.constructType(type));
+
+    private final PokeApiStreamingDecoder streamingDecoder =
+            new PokeApiStreamingDecoder(objectMapper.getFactory(), bindingDecoder);
+
+    @Test
+    @DisplayName("포켓몬 응답은 데이터 바인딩과 같은 값으로 디코딩되고 is_hidden도 읽음")
+    void decodesPokemonLikeDataBinding() throws IOException {
+        byte[] json = pokemonJson(25, "pikachu", 200);
+
+        PokemonResponse streamed = (PokemonResponse) streamingDecoder.decode(response(json), PokemonResponse.class);
+        PokemonResponse bound = (PokemonResponse) bindingDecoder.decode(response(json), PokemonResponse.class);
+
+        assertThat(streamed)
+                .usingRecursiveComparison()
+                .ignoringFieldsMatchingRegexes(".*isHidden")
+                .isEqualTo(bound);
+        assertThat(streamed.getId()).isEqualTo(25);
+        assertThat(streamed.getSprites().getFront_default()).endsWith("/25.png");
+        assertThat(streamed.getTypes()).extracting(type -> type.getType().getName()).containsExactly("electric");
+        assertThat(streamed.getAbilities()).extracting(ability -> ability.isHidden()).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("종족 응답은 한국어 이름만 남김")
+    void keepsOnlyKoreanSpeciesName() throws IOException {
+        PokemonSpeciesResponse species = (PokemonSpeciesResponse) streamingDecoder.decode(
+                response(speciesJson()), PokemonSpeciesResponse.class);
+
+        assertThat(species.getNames()).hasSize(1);
+        assertThat(species.getNames().get(0).getName()).isEqualTo("피카츄");
+        assertThat(species.getNames().get(0).getLanguage().getName()).isEqualTo("ko");
+    }
+
+    @Test
+    @DisplayName("다른 응답 타입은 기존 디코더로 위임")
+    void delegatesOtherTypes() throws IOException {
+        Object decoded = streamingDecoder.decode(response("{\"count\":1}".getBytes(StandardCharsets.UTF_8)),
+                com.pokeapi.model.PokemonListResponse.class);
+
+        assertThat(decoded).isInstanceOf(com.pokeapi.model.PokemonListResponse.class);
+    }
+
+    @Test
+    @DisplayName("벤치마크: 스트리밍 / 데이터 바인딩 디코딩 시간과 할당량 비교")
+    void benchmarkAgainstDataBinding() throws IOException {
+        byte[] json = pokemonJson(6, "charizard", 600);
+
+        long[] binding = measure(bindingDecoder, json);
+        long[] streaming = measure(streamingDecoder, json);
+
+        System.out.printf("payload=%dB%n", json.length);
+        System.out.printf("binding   decode=%7dns alloc=%8dB/op%n", binding[0], binding[1]);
+        System.out.printf("streaming decode=%7dns alloc=%8dB/op%n", streaming[0], streaming[1]);
+
+        if (binding[1] > 0 && streaming[1] > 0) {
+            assertThat(streaming[1]).isLessThan(binding[1]);
+        }
+    }
+
+    /**
+     * @return [평균 디코딩 시간(ns), 평균 할당 바이트 (측정 불가면 -1)]
+     */
+    private long[] measure(Decoder decoder, byte[] json) throws IOException {
+        int iterations = 2_000;
+        for (int i = 0; i < iterations; i++) {
+            decoder.decode(response(json), PokemonResponse.class);
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            decoder.decode(response(json), PokemonResponse.class);
+        }
+        long nanos = (System.nanoTime() - start) / iterations;
+        long allocatedAfter = allocatedBytes();
+
+        long allocated = allocatedBefore < 0 ? -1 : (allocatedAfter - allocatedBefore) / iterations;
+        return new long[]{nanos, allocated};
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static Response response(byte[] body) {
+        Request request = Request.create(Request.HttpMethod.GET, "https://pokeapi.co/api/v2/pokemon/25",
+                Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Collections.emptyMap())
+                .body(body)
+                .build();
+    }
+
+    /**
+     * 실제 /pokemon/{id} 응답과 비슷한 구조 (moves, game_indices, 스프라이트 변형 포함)
+     */
+    private static byte[] pokemonJson(int id, String name, int moveCount) {
+        StringBuilder json = new StringBuilder(64 * 1024);
+        json.append("{\"abilities\":[")
+                .append("{\"ability\":{\"name\":\"static\",\"url\":\"https://pokeapi.co/api/v2/ability/9/\"},\"is_hidden\":false,\"slot\":1},")
+                .append("{\"ability\":{\"name\":\"lightning-rod\",\"url\":\"https://pokeapi.co/api/v2/ability/31/\"},\"is_hidden\":true,\"slot\":3}],")
+                .append("\"base_experience\":112,\"forms\":[{\"name\":\"").append(name).append("\",\"url\":\"https://pokeapi.co/api/v2/pokemon-form/").append(id).append("/\"}],")
+                .append("\"game_indices\":[");
+        for (int i = 0; i < 20; i++) {
+            json.append(i > 0 ? "," : "")
+                    .append("{\"game_index\":").append(id).append(",\"version\":{\"name\":\"version-").append(i)
+                    .append("\",\"url\":\"https://pokeapi.co/api/v2/version/").append(i).append("/\"}}");
+        }
+        json.append("],\"height\":4,\"held_items\":[],\"id\":").append(id)
+                .append(",\"is_default\":true,\"location_area_encounters\":\"https://pokeapi.co/api/v2/pokemon/").append(id).append("/encounters\",")
+                .append("\"moves\":[");
+        for (int i = 0; i < moveCount; i++) {
+            json.append(i > 0 ? "," : "")
+                    .append("{\"move\":{\"name\":\"move-").append(i).append("\",\"url\":\"https://pokeapi.co/api/v2/move/").append(i).append("/\"},")
+                    .append("\"version_group_details\":[{\"level_learned_at\":").append(i % 50)
+                    .append(",\"move_learn_method\":{\"name\":\"level-up\",\"url\":\"https://pokeapi.co/api/v2/move-learn-method/1/\"},")
+                    .append("\"version_group\":{\"name\":\"red-blue\",\"url\":\"https://pokeapi.co/api/v2/version-group/1/\"}}]}");
+        }
+        json.append("],\"name\":\"").append(name).append("\",\"order\":35,")
+                .append("\"species\":{\"name\":\"").append(name).append("\",\"url\":\"https://pokeapi.co/api/v2/pokemon-species/").append(id).append("/\"},")
+                .append("\"sprites\":{\"back_default\":\"https://example.com/back/").append(id).append(".png\",\"back_shiny\":null,")
+                .append("\"front_default\":\"https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/").append(id).append(".png\",")
+                .append("\"other\":{\"official-artwork\":{\"front_default\":\"https://example.com/art/").append(id).append(".png\"}},")
+                .append("\"versions\":{\"generation-i\":{\"red-blue\":{\"front_default\":\"https://example.com/rb/").append(id).append(".png\"}}}},")
+                .append("\"stats\":[{\"base_stat\":35,\"effort\":0,\"stat\":{\"name\":\"hp\",\"url\":\"https://pokeapi.co/api/v2/stat/1/\"}}],")
+                .append("\"types\":[{\"slot\":1,\"type\":{\"name\":\"electric\",\"url\":\"https://pokeapi.co/api/v2/type/13/\"}}],")
+                .append("\"weight\":60}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] speciesJson() {
+        String json = "{\"base_happiness\":50,\"flavor_text_entries\":[{\"flavor_text\":\"...\",\"language\":{\"name\":\"en\",\"url\":\"\"}}],"
+                + "\"names\":["
+                + "{\"language\":{\"name\":\"ja-Hrkt\",\"url\":\"\"},\"name\":\"ピカチュウ\"},"
+                + "{\"language\":{\"name\":\"ko\",\"url\":\"\"},\"name\":\"피카츄\"},"
+                + "{\"name\":\"Pikachu\",\"language\":{\"name\":\"en\",\"url\":\"\"}}"
+                + "],\"varieties\":[]}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+package com.pokeapi.client;
+
+import com.pokeapi.exception.ExternalApiException;
+import com.pokeapi.util.CircuitBreaker;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PokeAPI 전송 계층 (재시도 / 서킷 브레이커) 테스트")
+class ResilientClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final Deque<Integer> statuses = new ConcurrentLinkedDeque<>();
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            Integer status = statuses.poll();
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status != null ? status : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 재시도해서 성공 응답을 돌려줌")
+    void retriesServerErrors() throws IOException {
+        statuses.add(503);
+        statuses.add(502);
+        ResilientClient client = client(3, new CircuitBreaker(10, 30, TimeUnit.SECONDS));
+
+        try (Response response = client.execute(get("/pokemon/25"), new Request.Options())) {
+            assertThat(response.status()).isEqualTo(200);
+        }
+        assertThat(hits.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("404는 재시도하지 않고 그대로 돌려줌")
+    void doesNotRetryNotFound() throws IOException {
+        statuses.add(404);
+        ResilientClient client = client(3, new CircuitBreaker(10, 30, TimeUnit.SECONDS));
+
+        try (Response response = client.execute(get("/pokemon/unknown"), new Request.Options())) {
+            assertThat(response.status()).isEqualTo(404);
+        }
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 쌓이면 서킷이 열리고 스텁 서버를 호출하지 않고 ExternalApiException")
+    void opensCircuitAfterConsecutiveFailures() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            statuses.add(500);
+        }
+        ResilientClient client = client(1, new CircuitBreaker(2, 30, TimeUnit.SECONDS));
+
+        client.execute(get("/pokemon/1"), new Request.Options()).close();
+        client.execute(get("/pokemon/2"), new Request.Options()).close();
+
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.execute(get("/pokemon/3"), new Request.Options()))
+                .isInstanceOf(ExternalApiException.class);
+        assertThat(hits.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 호출 1건이 성공해서 서킷이 닫힘")
+    void halfOpenTrialClosesCircuit() throws IOException, InterruptedException {
+        statuses.add(500);
+        ResilientClient client = client(1, new CircuitBreaker(1, 50, TimeUnit.MILLISECONDS));
+
+        client.execute(get("/pokemon/1"), new Request.Options()).close();
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        try (Response response = client.execute(get("/pokemon/1"), new Request.Options())) {
+            assertThat(response.status()).isEqualTo(200);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출에서 런타임 예외가 나도 서킷이 다시 열리고, 열림 시간이 지나면 다시 시험 호출을 허용")
+    void runtimeFailureReleasesHalfOpenTrial() throws IOException, InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Client failingOnce = (request, options) -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("디코딩 전 내부 오류");
+            }
+            throw new IOException("연결 끊김");
+        };
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 50, TimeUnit.MILLISECONDS);
+        ResilientClient client = new ResilientClient(failingOnce, circuitBreaker, 4, 100, 1, 1, 5);
+
+        assertThatThrownBy(() -> client.execute(get("/pokemon/1"), new Request.Options())).isInstanceOf(IOException.class);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThatThrownBy(() -> client.execute(get("/pokemon/1"), new Request.Options()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThatThrownBy(() -> client.execute(get("/pokemon/1"), new Request.Options())).isInstanceOf(IOException.class);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    private ResilientClient client(int maxAttempts, CircuitBreaker circuitBreaker) {
+        return new ResilientClient(new Client.Default(null, null), circuitBreaker, 4, 100, maxAttempts, 1, 5);
+    }
+
+    private Request get(String path) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + path;
+        return Request.create(Request.HttpMethod.GET, url, Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,161 @@
+package com.pokeapi.config;
+
+import com.pokeapi.model.Ability;
+import com.pokeapi.model.PokemonListResponse;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.PokemonSummary;
+import com.pokeapi.model.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Redis 캐시 직렬화기 테스트")
+class PokemonCacheSerializerTest {
+
+    private final PokemonCacheSerializer serializer = new PokemonCacheSerializer();
+
+    @Test
+    @DisplayName("포켓몬 응답은 모든 필드가 그대로 복원됨")
+    void roundTripPokemonResponse() {
+        PokemonResponse original = pokemon(25, "피카츄", "pikachu");
+
+        PokemonResponse restored = (PokemonResponse) serializer.deserialize(serializer.serialize(original));
+
+        assertThat(restored).usingRecursiveComparison().isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("목록 응답은 count가 없어도(null) 그대로 복원됨")
+    void roundTripPokemonListResponse() {
+        PokemonListResponse original = pokemonList(20);
+        original.setCount(null);
+
+        PokemonListResponse restored = (PokemonListResponse) serializer.deserialize(serializer.serialize(original));
+
+        assertThat(restored).usingRecursiveComparison().isEqualTo(original);
+        assertThat(restored.getCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("포맷 버전이 다른 값(이전 JDK 직렬화 값 포함)은 캐시 미스(null)로 읽힘")
+    void otherFormatVersionIsCacheMiss() {
+        byte[] jdkBytes = new JdkSerializationRedisSerializer().serialize(pokemon(1, "이상해씨", "bulbasaur"));
+
+        assertThat(serializer.deserialize(jdkBytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("벤치마크: 바이너리 / JDK / Jackson JSON 크기와 변환 시간 비교")
+    void benchmarkAgainstJdkAndJson() {
+        PokemonListResponse page = pokemonList(20);
+
+        Result binary = measure("binary", serializer, page);
+        Result jdk = measure("jdk", new JdkSerializationRedisSerializer(), page);
+        Result json = measure("json", new GenericJackson2JsonRedisSerializer(), page);
+
+        System.out.println(binary);
+        System.out.println(jdk);
+        System.out.println(json);
+
+        assertThat(binary.bytes).isLessThan(jdk.bytes);
+        assertThat(binary.bytes).isLessThan(json.bytes);
+    }
+
+    private static Result measure(String name, RedisSerializer<Object> serializer, Object value) {
+        int iterations = 2_000;
+        byte[] bytes = serializer.serialize(value);
+
+        // 워밍업
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            serializer.serialize(value);
+        }
+        long encodeNanos = (System.nanoTime() - encodeStart) / iterations;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(bytes);
+        }
+        long decodeNanos = (System.nanoTime() - decodeStart) / iterations;
+
+        return new Result(name, bytes.length, encodeNanos, decodeNanos);
+    }
+
+    private static final class Result {
+        private final String name;
+        private final int bytes;
+        private final long encodeNanos;
+        private final long decodeNanos;
+
+        private Result(String name, int bytes, long encodeNanos, long decodeNanos) {
+            this.name = name;
+            this.bytes = bytes;
+            this.encodeNanos = encodeNanos;
+            this.decodeNanos = decodeNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s size=%6dB encode=%7dns decode=%7dns", name, bytes, encodeNanos, decodeNanos);
+        }
+    }
+
+    private static PokemonListResponse pokemonList(int size) {
+        List<PokemonSummary> summaries = new ArrayList<>();
+        List<PokemonResponse> details = new ArrayList<>();
+        for (int id = 1; id <= size; id++) {
+            PokemonSummary summary = new PokemonSummary();
+            summary.setName("포켓몬" + id);
+            summary.setUrl("/api/pokemon/" + id);
+            summaries.add(summary);
+            details.add(pokemon(id, "포켓몬" + id, "pokemon-" + id));
+        }
+
+        PokemonListResponse response = new PokemonListResponse();
+        response.setCount(151);
+        response.setNext("?limit=" + size + "&offset=" + size);
+        response.setResults(summaries);
+        response.setDetailedResults(details);
+        return response;
+    }
+
+    private static PokemonResponse pokemon(int id, String name, String englishName) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setEnglishName(englishName);
+        pokemon.setHeight(4);
+        pokemon.setWeight(60);
+
+        PokemonResponse.Sprites sprites = new PokemonResponse.Sprites();
+        sprites.setFront_default("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + id + ".png");
+        pokemon.setSprites(sprites);
+
+        Type.TypeDetail typeDetail = new Type.TypeDetail();
+        typeDetail.setName("electric");
+        Type type = new Type();
+        type.setSlot(1);
+        type.setType(typeDetail);
+        pokemon.setTypes(new ArrayList<>(List.of(type)));
+
+        Ability.AbilityDetail abilityDetail = new Ability.AbilityDetail();
+        abilityDetail.setName("static");
+        Ability ability = new Ability();
+        ability.setSlot(1);
+        ability.setHidden(false);
+        ability.setAbility(abilityDetail);
+        pokemon.setAbilities(new ArrayList<>(List.of(ability)));
+        return pokemon;
+    }
+}
@@ -0,0 +1,144 @@
+package com.pokeapi.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("2단계 캐시(L1 Caffeine + L2) 테스트")
+class TwoLevelCacheTest {
+
+    private static final String CHANNEL = "pokemon:cache:invalidation";
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private StringRedisTemplate redisTemplate;
+    private TwoLevelCacheManager cacheManager;
+    private Cache remote;
+    private Cache cache;
+    private String nodeId;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        redisTemplate = mock(StringRedisTemplate.class);
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, CHANNEL, 100, Duration.ofMinutes(1));
+        cache = cacheManager.getCache("pokemon");
+        remote = remoteCacheManager.getCache("pokemon");
+        nodeId = (String) ReflectionTestUtils.getField(cacheManager, "nodeId");
+    }
+
+    private void receive(String body) {
+        cacheManager.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 올려 두고, 이후에는 L1에서 반환")
+    void promotesRemoteHitToLocal() {
+        remote.put(25, "피카츄");
+
+        assertThat(cache.get(25).get()).isEqualTo("피카츄");
+        remote.evict(25);
+
+        assertThat(cache.get(25).get()).isEqualTo("피카츄");
+        assertThat(cache.get(26)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장/삭제/전체 삭제는 L2에 반영하고 다른 노드에 무효화 메시지를 발행")
+    void writesThroughAndPublishes() {
+        cache.put(25, "피카츄");
+        assertThat(remote.get(25).get()).isEqualTo("피카츄");
+        verify(redisTemplate).convertAndSend(CHANNEL, nodeId + "|E|pokemon|25");
+
+        cache.evict(25);
+        assertThat(remote.get(25)).isNull();
+        assertThat(cache.get(25)).isNull();
+
+        cache.put(1, "이상해씨");
+        cache.clear();
+        assertThat(remote.get(1)).isNull();
+        assertThat(cache.get(1)).isNull();
+        verify(redisTemplate).convertAndSend(CHANNEL, nodeId + "|C|pokemon|");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 키 삭제 메시지는 L1만 지우고 L2는 그대로 둠")
+    void evictsLocalOnRemoteMessage() {
+        cache.put(25, "피카츄");
+        remote.put(25, "라이츄");   // 다른 노드가 L2를 바꾼 상황
+
+        assertThat(cache.get(25).get()).isEqualTo("피카츄");
+        receive("other-node|E|pokemon|25");
+
+        assertThat(cache.get(25).get()).isEqualTo("라이츄");
+    }
+
+    @Test
+    @DisplayName("키에 구분자(|)가 있어도 마지막 필드 전체를 키로 사용")
+    void keepsSeparatorsInKey() {
+        remote.put("type=fire|water", "목록");
+        assertThat(cache.get("type=fire|water").get()).isEqualTo("목록");
+        remote.put("type=fire|water", "새 목록");
+
+        receive("other-node|E|pokemon|type=fire|water");
+
+        assertThat(cache.get("type=fire|water").get()).isEqualTo("새 목록");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 전체 삭제 메시지는 L1 전체를 비움")
+    void clearsLocalOnRemoteMessage() {
+        cache.put(1, "이상해씨");
+        cache.put(4, "파이리");
+        remote.clear();
+
+        receive("other-node|C|pokemon|");
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(4)).isNull();
+    }
+
+    @Test
+    @DisplayName("자기 노드 메시지, 모르는 캐시, 형식이 잘못된 메시지는 무시")
+    void ignoresOwnAndMalformedMessages() {
+        cache.put(25, "피카츄");
+        remote.put(25, "라이츄");
+
+        receive(nodeId + "|E|pokemon|25");
+        receive("other-node|E|unknown|25");
+        receive("other-node|E|pokemon");
+        receive("garbage");
+        receive("other-node|X|pokemon|25");
+
+        assertThat(cache.get(25).get()).isEqualTo("피카츄");
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 발행이 실패해도 캐시 작업은 계속됨")
+    void toleratesPublishFailure() {
+        StringRedisTemplate failing = mock(StringRedisTemplate.class);
+        doThrow(new IllegalStateException("redis down"))
+                .when(failing).convertAndSend(anyString(), anyString());
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(new ConcurrentMapCacheManager(), failing,
+                CHANNEL, 100, Duration.ofMinutes(1));
+        Cache failingCache = manager.getCache("pokemon");
+
+        failingCache.put(25, "피카츄");
+
+        assertThat(failingCache.get(25).get()).isEqualTo("피카츄");
+    }
+}
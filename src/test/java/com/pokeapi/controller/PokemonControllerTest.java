@@ -0,0 +1,121 @@
+package com.pokeapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.service.PokedexSnapshot;
+import com.pokeapi.service.PokedexSnapshotManager;
+import com.pokeapi.service.PokemonJsonCache;
+import com.pokeapi.service.PokemonService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("개별 포켓몬 조회 ETag / gzip 협상 테스트")
+class PokemonControllerTest {
+
+    private static final long UPDATED_AT = 1_700_000_000_000L;     // 포켓몬 행의 updatedAt
+
+    private MockMvc mockMvc;
+    private String jsonEtag;
+    private String gzipEtag;
+
+    @BeforeEach
+    void setUp() {
+        PokemonResponse pikachu = new PokemonResponse();
+        pikachu.setId(25);
+        pikachu.setName("피카츄");
+        pikachu.setUpdatedAt(UPDATED_AT);
+        PokedexSnapshot snapshot = PokedexSnapshot.of(List.of(pikachu), 1);
+
+        PokemonService pokemonService = mock(PokemonService.class);
+        when(pokemonService.getPokemon("25")).thenReturn(snapshot.get(25));
+        PokedexSnapshotManager snapshotManager = mock(PokedexSnapshotManager.class);
+        when(snapshotManager.current()).thenReturn(snapshot);
+
+        PokemonJsonCache jsonCache = new PokemonJsonCache(new ObjectMapper());
+        ReflectionTestUtils.setField(jsonCache, "gzipEnabled", true);
+        jsonEtag = jsonCache.get(snapshot.get(25)).getEtag();
+        gzipEtag = jsonCache.get(snapshot.get(25)).getGzipEtag();
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new PokemonController(pokemonService, jsonCache, snapshotManager))
+                .build();
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하면 gzip 본문과 \"-gz\" ETag, 아니면 원본 JSON과 원래 ETag")
+    void negotiatesGzipWithDistinctEtags() throws Exception {
+        mockMvc.perform(get("/api/pokemon/25").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, gzipEtag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+
+        mockMvc.perform(get("/api/pokemon/25"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, jsonEtag));
+
+        assertThat(gzipEtag).isNotEqualTo(jsonEtag);
+    }
+
+    @Test
+    @DisplayName("gzip;q=0이나 *;q=0이면 gzip으로 보내지 않고, *만 있으면 gzip")
+    void honorsQualityValues() throws Exception {
+        mockMvc.perform(get("/api/pokemon/25").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/pokemon/25").header(HttpHeaders.ACCEPT_ENCODING, "identity, *;q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/pokemon/25").header(HttpHeaders.ACCEPT_ENCODING, "*"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        assertThat(PokemonController.acceptsGzip("GZIP ; q=0.5")).isTrue();
+        assertThat(PokemonController.acceptsGzip("gzip;q=0.0")).isFalse();
+        assertThat(PokemonController.acceptsGzip("*;q=0.1, gzip;q=0")).isFalse();
+        assertThat(PokemonController.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 보낼 표현의 ETag와 같을 때만 304")
+    void returnsNotModifiedForMatchingRepresentation() throws Exception {
+        mockMvc.perform(get("/api/pokemon/25").header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/pokemon/25")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/pokemon/25")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipEtag));
+    }
+
+    @Test
+    @DisplayName("Last-Modified는 스냅샷을 만든 시각이 아니라 포켓몬 행의 updatedAt")
+    void lastModifiedComesFromRow() throws Exception {
+        mockMvc.perform(get("/api/pokemon/25"))
+                .andExpect(status().isOk())
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, UPDATED_AT));
+
+        mockMvc.perform(get("/api/pokemon/25").header(HttpHeaders.IF_MODIFIED_SINCE, UPDATED_AT))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/pokemon/25").header(HttpHeaders.IF_MODIFIED_SINCE, UPDATED_AT - 60_000))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,77 @@
+package com.pokeapi.entity;
+
+import com.pokeapi.repository.AbilityRepository;
+import com.pokeapi.repository.TypeRepository;
+import com.pokeapi.service.PokemonBatchWriter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포켓몬 묶음 저장 시 SQL 문 수 측정
+ *
+ * IDENTITY일 때는 포켓몬 1마리(타입 2개, 특성 2개)에 INSERT 5번 (pokemon 1 + pokemon_types 2 + pokemon_abilities 2)
+ * 연결 테이블을 시퀀스로 바꾼 뒤에는 batch_size 단위 배치 INSERT와 50개마다 한 번의 시퀀스 조회만 나감
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class JdbcBatchInsertTest {
+
+    private static final int POKEMON_COUNT = 200;
+
+    @Autowired
+    private PokemonBatchWriter batchWriter;
+
+    @Autowired
+    private TypeRepository typeRepository;
+
+    @Autowired
+    private AbilityRepository abilityRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("포켓몬 여러 마리 저장 시 SQL 문 수가 포켓몬 수보다 훨씬 적음 (JDBC 배치)")
+    void batchesJoinTableInserts() {
+        // given
+        Type grass = typeRepository.save(new Type("batch-test-grass", "풀"));
+        Type poison = typeRepository.save(new Type("batch-test-poison", "독"));
+        Ability overgrow = abilityRepository.save(new Ability("batch-test-overgrow", "심록"));
+        Ability chlorophyll = abilityRepository.save(new Ability("batch-test-chlorophyll", "엽록소"));
+
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int i = 0; i < POKEMON_COUNT; i++) {
+            Pokemon pokemon = new Pokemon(900_000L + i, "배치" + i, "batch-" + i);
+            pokemon.addType(grass, 1);
+            pokemon.addType(poison, 2);
+            pokemon.addAbility(overgrow, 1, false);
+            pokemon.addAbility(chlorophyll, 3, true);
+            pokemons.add(pokemon);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        batchWriter.persistAll(pokemons);
+
+        // then
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("포켓몬 %d마리 저장: SQL 문 %d개 (마리당 %.3f개, IDENTITY일 때 마리당 5개)%n",
+                POKEMON_COUNT, statements, (double) statements / POKEMON_COUNT);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(POKEMON_COUNT * 5L);
+        assertThat(statements).isLessThan(POKEMON_COUNT);
+    }
+}
@@ -0,0 +1,48 @@
+package com.pokeapi.repository;
+
+import com.pokeapi.entity.Pokemon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("포켓몬 리포지토리 이름 검색 테스트")
+class PokemonRepositoryTest {
+
+    private static final List<Long> IDS = List.of(920_001L, 920_002L, 920_003L);
+
+    @Autowired
+    private PokemonRepository pokemonRepository;
+
+    @AfterEach
+    void cleanUp() {
+        pokemonRepository.deleteAllById(IDS);
+    }
+
+    @Test
+    @DisplayName("검색어의 %, _는 와일드카드가 아니라 글자로 비교")
+    void treatsWildcardsAsLiterals() {
+        pokemonRepository.saveAll(List.of(
+                new Pokemon(IDS.get(0), "검색100%", "search-100%"),
+                new Pokemon(IDS.get(1), "검색_테스트", "search_test"),
+                new Pokemon(IDS.get(2), "검색-테스트", "search-test")));
+
+        assertThat(search("100%")).containsExactly(IDS.get(0));
+        assertThat(search("h_t")).containsExactly(IDS.get(1));     // 이스케이프하지 않으면 "search-test"도 일치
+        assertThat(search("%검색")).isEmpty();
+    }
+
+    private List<Long> search(String keyword) {
+        return pokemonRepository.searchByKeyword(PokemonRepository.escapeLike(keyword), PageRequest.of(0, 20)).stream()
+                .map(Pokemon::getId)
+                .filter(IDS::contains)
+                .toList();
+    }
+}
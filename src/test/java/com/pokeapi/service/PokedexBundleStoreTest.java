@@ -0,0 +1,49 @@
+package com.pokeapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("데이터셋 번들 저장소 테스트")
+class PokedexBundleStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PokedexBundleStore bundleStore;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build());
+        for (String table : new String[]{"pokemon_types", "pokemon_abilities"}) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY)");
+            jdbcTemplate.execute("CREATE SEQUENCE " + table + "_seq START WITH 1 INCREMENT BY 50");
+        }
+        bundleStore = new PokedexBundleStore(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("연결 테이블 시퀀스는 최대 ID + allocationSize보다 뒤처졌을 때만 앞으로 옮기고 되돌리지 않음")
+    void movesSequencesOnlyForward() {
+        jdbcTemplate.update("INSERT INTO pokemon_types (id) VALUES (120)");
+
+        bundleStore.alignLinkSequences();
+        assertThat(nextValue("pokemon_types_seq")).isEqualTo(170);
+        assertThat(nextValue("pokemon_abilities_seq")).isEqualTo(50);
+
+        // 다른 노드가 이미 더 위의 구간을 받아 둠 -> 다시 기동해도 그대로
+        jdbcTemplate.execute("ALTER SEQUENCE pokemon_types_seq RESTART WITH 1000");
+        bundleStore.alignLinkSequences();
+        assertThat(nextValue("pokemon_types_seq")).isEqualTo(1000);
+    }
+
+    private long nextValue(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+    }
+}
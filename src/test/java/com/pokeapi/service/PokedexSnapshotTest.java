@@ -0,0 +1,130 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonFacetResponse;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("도감 스냅샷 테스트")
+class PokedexSnapshotTest {
+
+    @Test
+    @DisplayName("ID, 한국어 이름, 영어 이름(대소문자 무시)이 모두 같은 포켓몬을 가리킴")
+    void findByIdOrAlias() {
+        PokedexSnapshot snapshot = PokedexSnapshot.of(List.of(pokemon(25, "피카츄", "pikachu", 60)), 1);
+
+        PokemonResponse byId = snapshot.find("25");
+        assertThat(byId).isNotNull();
+        assertThat(snapshot.find("피카츄")).isSameAs(byId);
+        assertThat(snapshot.find("Pikachu")).isSameAs(byId);
+        assertThat(snapshot.find(" PIKACHU ")).isSameAs(byId);
+        assertThat(snapshot.find("raichu")).isNull();
+    }
+
+    @Test
+    @DisplayName("지문은 만든 방법과 관계없이 내용이 같으면 같고, 내용이 바뀌면 달라짐")
+    void fingerprintDependsOnlyOnContent() {
+        PokedexSnapshot built = PokedexSnapshot.of(List.of(
+                pokemon(1, "이상해씨", "bulbasaur", 69),
+                pokemon(25, "피카츄", "pikachu", 60)), 1);
+        PokedexSnapshot added = PokedexSnapshot.of(List.of(pokemon(25, "피카츄", "pikachu", 60)), 7)
+                .with(pokemon(1, "이상해씨", "bulbasaur", 69));
+
+        assertThat(added.getFingerprint()).isEqualTo(built.getFingerprint());
+
+        PokedexSnapshot replaced = built.with(pokemon(25, "피카츄", "pikachu", 61));
+        assertThat(replaced.getFingerprint()).isNotEqualTo(built.getFingerprint());
+        assertThat(replaced.size()).isEqualTo(2);
+        assertThat(replaced.with(pokemon(25, "피카츄", "pikachu", 60)).getFingerprint())
+                .isEqualTo(built.getFingerprint());
+    }
+
+    @Test
+    @DisplayName("마지막 변경 시각은 만든 시각과 관계없이 포켓몬 updatedAt 중 가장 늦은 값")
+    void lastModifiedComesFromData() {
+        PokemonResponse bulbasaur = pokemon(1, "이상해씨", "bulbasaur", 69);
+        bulbasaur.setUpdatedAt(1_000L);
+        PokemonResponse pikachu = pokemon(25, "피카츄", "pikachu", 60);
+        pikachu.setUpdatedAt(2_000L);
+
+        PokedexSnapshot built = PokedexSnapshot.of(List.of(bulbasaur, pikachu), 1);
+        PokedexSnapshot added = PokedexSnapshot.of(List.of(pikachu), 7).with(bulbasaur);
+        assertThat(built.getLastModified()).isEqualTo(2_000L);
+        assertThat(added.getLastModified()).isEqualTo(built.getLastModified());
+
+        PokemonResponse raichu = pokemon(26, "라이츄", "raichu", 300);
+        raichu.setUpdatedAt(3_000L);
+        assertThat(built.with(raichu).getLastModified()).isEqualTo(3_000L);
+        assertThat(PokedexSnapshot.of(List.of(pokemon(4, "파이리", "charmander", 85)), 1).getLastModified()).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("스냅샷의 응답은 변경할 수 없고, 스냅샷을 만든 원본을 바꿔도 스냅샷은 그대로")
+    void storesReadOnlyCopies() {
+        PokemonResponse source = pokemon(25, "피카츄", "pikachu", 60);
+        Type.TypeDetail electric = new Type.TypeDetail();
+        electric.setName("electric");
+        Type type = new Type();
+        type.setSlot(1);
+        type.setType(electric);
+        source.setTypes(new ArrayList<>(List.of(type)));
+
+        PokedexSnapshot snapshot = PokedexSnapshot.of(List.of(source), 1).with(pokemon(1, "이상해씨", "bulbasaur", 69));
+        long fingerprint = snapshot.getFingerprint();
+
+        source.setName("라이츄");
+        electric.setName("steel");
+        source.getTypes().clear();
+
+        PokemonResponse stored = snapshot.find("25");
+        assertThat(stored.getName()).isEqualTo("피카츄");
+        assertThat(stored.getTypes()).hasSize(1);
+        assertThat(stored.getTypes().get(0).getType().getName()).isEqualTo("electric");
+        assertThat(snapshot.find("라이츄")).isNull();
+
+        assertThatThrownBy(() -> stored.setWeight(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> stored.getTypes().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> stored.getTypes().get(0).getType().setName("steel"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.get(1).setName("라이츄")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(snapshot.getFingerprint()).isEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("한 번 계산해 둔 facet을 받아서 바꿔도 다음 요청의 facet은 그대로")
+    void facetsAreNotShared() {
+        PokedexSnapshot snapshot = PokedexSnapshot.of(List.of(
+                pokemon(25, "피카츄", "pikachu", 60),
+                pokemon(1, "이상해씨", "bulbasaur", 69)), 1);
+
+        PokemonFacetResponse first = snapshot.facets();
+        int weightBucketCount = first.getWeight().get(0).getCount();
+        first.setCount(0);
+        first.getHiddenAbility().clear();
+        first.getWeight().get(0).setCount(-1);
+        first.getHeight().clear();
+
+        PokemonFacetResponse second = snapshot.facets();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getCount()).isEqualTo(2);
+        assertThat(second.getHiddenAbility()).containsEntry("false", 2);
+        assertThat(second.getWeight().get(0).getCount()).isEqualTo(weightBucketCount);
+        assertThat(second.getHeight()).isNotEmpty();
+    }
+
+    private static PokemonResponse pokemon(int id, String name, String englishName, int weight) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setEnglishName(englishName);
+        pokemon.setWeight(weight);
+        return pokemon;
+    }
+}
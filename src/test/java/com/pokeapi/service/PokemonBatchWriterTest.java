@@ -0,0 +1,68 @@
+package com.pokeapi.service;
+
+import com.pokeapi.entity.Pokemon;
+import com.pokeapi.repository.PokemonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("포켓몬 묶음 저장기 테스트")
+class PokemonBatchWriterTest {
+
+    private static final List<Long> IDS = List.of(910_001L, 910_002L, 910_003L);
+
+    @Autowired
+    private PokemonBatchWriter batchWriter;
+
+    @Autowired
+    private TypeAbilityDictionary dictionary;
+
+    @Autowired
+    private PokemonRepository pokemonRepository;
+
+    @AfterEach
+    void cleanUp() {
+        pokemonRepository.deleteAllById(IDS);
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 한 마리씩 다시 저장해서 잘못된 포켓몬만 빠짐")
+    void fallsBackToEachRow() {
+        Pokemon broken = pokemon(IDS.get(1), "망가진포켓몬", null);   // english_name NOT NULL 위반
+
+        int saved = batchWriter.persistAllOrEach(List.of(
+                pokemon(IDS.get(0), "배치하나", "batch-one"),
+                broken,
+                pokemon(IDS.get(2), "배치셋", "batch-three")));
+
+        assertThat(saved).isEqualTo(2);
+        assertThat(pokemonRepository.findAllById(IDS)).extracting(Pokemon::getId)
+                .containsExactlyInAnyOrder(IDS.get(0), IDS.get(2));
+        assertThat(pokemonRepository.findAllWithTypesByIdIn(List.of(IDS.get(2))).get(0).getTypes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("문제가 없으면 한 번에 모두 저장")
+    void persistsWholeBatch() {
+        int saved = batchWriter.persistAllOrEach(List.of(
+                pokemon(IDS.get(0), "배치하나", "batch-one"),
+                pokemon(IDS.get(1), "배치둘", "batch-two")));
+
+        assertThat(saved).isEqualTo(2);
+        assertThat(pokemonRepository.findAllById(IDS)).hasSize(2);
+    }
+
+    private Pokemon pokemon(Long id, String name, String englishName) {
+        Pokemon pokemon = new Pokemon(id, name, englishName);
+        pokemon.addType(dictionary.type("normal"), 1);
+        pokemon.addAbility(dictionary.ability("run-away"), 1, false);
+        return pokemon;
+    }
+}
@@ -0,0 +1,105 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("포켓몬 컬럼 배열 테스트")
+class PokemonColumnsTest {
+
+    private final PokemonColumns columns = PokemonColumns.of(new PokemonResponse[]{
+            null,
+            pokemon(1, "이상해씨", 7, 69),
+            null, null,
+            pokemon(4, "파이리", 6, 85),
+            null,
+            pokemon(6, "리자몽", 17, 905),
+            pokemon(7, "꼬부기", 5, 90)});
+
+    @Test
+    @DisplayName("정렬 기준별 순서로 offset/limit 페이지를 반환하고, -는 내림차순")
+    void pagesInSortOrder() {
+        long[] all = bits(1, 4, 6, 7);
+
+        assertThat(columns.page(all, PokemonColumns.SortKey.ID, false, 0, 10)).containsExactly(1, 4, 6, 7);
+        assertThat(columns.page(all, PokemonColumns.SortKey.NAME, false, 0, 10)).containsExactly(7, 6, 1, 4);
+        assertThat(columns.page(all, PokemonColumns.SortKey.HEIGHT, false, 1, 2)).containsExactly(4, 1);
+        assertThat(columns.page(all, PokemonColumns.SortKey.WEIGHT, true, 0, 2)).containsExactly(6, 7);
+        assertThat(columns.page(bits(1, 7), PokemonColumns.SortKey.WEIGHT, true, 0, 10)).containsExactly(7, 1);
+    }
+
+    @Test
+    @DisplayName("키/몸무게 범위는 양 끝을 포함하고, null이면 해당 쪽 제한 없음")
+    void retainsRanges() {
+        long[] bits = bits(1, 4, 6, 7);
+        columns.retainHeight(bits, 6, 7);
+        assertThat(columns.page(bits, PokemonColumns.SortKey.ID, false, 0, 10)).containsExactly(1, 4);
+
+        bits = bits(1, 4, 6, 7);
+        columns.retainWeight(bits, 85, null);
+        columns.retainHeight(bits, null, 10);
+        assertThat(columns.page(bits, PokemonColumns.SortKey.ID, false, 0, 10)).containsExactly(4, 7);
+
+        bits = bits(1, 4, 6, 7);
+        columns.retainWeight(bits, 1000, null);
+        assertThat(PokemonFilterIndex.count(bits)).isZero();
+    }
+
+    @Test
+    @DisplayName("히스토그램은 조건 비트맵 안의 포켓몬만 구간별로 셈")
+    void countsHistogramWithinBits() {
+        assertThat(columns.heightHistogram(bits(1, 4, 6, 7))).containsExactly(0, 3, 0, 1, 0, 0);
+        assertThat(columns.weightHistogram(bits(1, 4, 6, 7))).containsExactly(3, 0, 0, 1, 0, 0);
+        assertThat(columns.weightHistogram(bits(6))).containsExactly(0, 0, 0, 1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("한 마리씩 추가/교체한 컬럼은 전체를 다시 정렬해 만든 컬럼과 같은 순서")
+    void incrementalMatchesRebuild() {
+        PokemonResponse[] byId = new PokemonResponse[8];
+        byId[1] = pokemon(1, "이상해씨", 7, 69);
+        byId[6] = pokemon(6, "리자몽", 17, 905);
+        PokemonColumns incremental = PokemonColumns.of(byId);
+
+        PokemonResponse[][] changes = {
+                {pokemon(4, "파이리", 6, 85), null},
+                {pokemon(7, "꼬부기", 7, 90), null},
+                {pokemon(2, "이상해풀", 10, 130), null},
+                {pokemon(6, "리자몽", 5, 50), byId[6]},     // 교체: 키/몸무게가 맨 앞으로
+                {pokemon(5, "리자드", 7, 190), null}};
+        for (PokemonResponse[] change : changes) {
+            byId[change[0].getId()] = change[0];
+            incremental = incremental.with(byId, change[0], change[1]);
+        }
+
+        PokemonColumns rebuilt = PokemonColumns.of(byId);
+        long[] all = bits(1, 2, 4, 5, 6, 7);
+        for (PokemonColumns.SortKey sortKey : PokemonColumns.SortKey.values()) {
+            assertThat(incremental.page(all, sortKey, false, 0, 10))
+                    .as(sortKey.name())
+                    .isEqualTo(rebuilt.page(all, sortKey, false, 0, 10));
+        }
+        assertThat(incremental.heightHistogram(all)).containsExactly(rebuilt.heightHistogram(all));
+        assertThat(incremental.weightHistogram(all)).containsExactly(rebuilt.weightHistogram(all));
+        assertThat(incremental.page(all, PokemonColumns.SortKey.HEIGHT, false, 0, 1)).containsExactly(6);
+    }
+
+    private static long[] bits(int... ids) {
+        long[] bits = new long[1];
+        for (int id : ids) {
+            bits[id >>> 6] |= 1L << (id & 63);
+        }
+        return bits;
+    }
+
+    private static PokemonResponse pokemon(int id, String name, int height, int weight) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setHeight(height);
+        pokemon.setWeight(weight);
+        return pokemon;
+    }
+}
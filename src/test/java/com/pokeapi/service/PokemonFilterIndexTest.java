@@ -0,0 +1,147 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.Ability;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("포켓몬 필터 인덱스 테스트")
+class PokemonFilterIndexTest {
+
+    private final PokemonFilterIndex index = PokemonFilterIndex.of(List.of(
+            pokemon(4, List.of("fire"), "blaze", "solar-power"),
+            pokemon(6, List.of("fire", "flying"), "blaze", "solar-power"),
+            pokemon(7, List.of("water"), "torrent", "rain-dish"),
+            pokemon(16, List.of("normal", "flying"), "keen-eye", null),
+            pokemon(130, List.of("water", "flying"), "intimidate", "moxie")));
+
+    @Test
+    @DisplayName("같은 파라미터를 여러 번 주면 AND, | 는 OR, ! 는 NOT")
+    void combinesClauses() {
+        assertThat(ids(query(List.of("fire", "flying"), null, null))).containsExactly(6);
+        assertThat(ids(query(List.of("fire|water"), null, null))).containsExactly(4, 6, 7, 130);
+        assertThat(ids(query(List.of("flying", "!water"), null, null))).containsExactly(6, 16);
+        assertThat(ids(query(List.of("Water"), List.of("!torrent"), null))).containsExactly(130);
+    }
+
+    @Test
+    @DisplayName("hiddenAbility는 숨겨진 특성 유무로 거르고, 개수는 비트 수로 계산")
+    void filtersByHiddenAbilityAndCounts() {
+        PokemonFilterIndex.Query hiddenFlying = query(List.of("flying"), null, true);
+
+        assertThat(ids(hiddenFlying)).containsExactly(6, 130);
+        assertThat(ids(query(null, null, false))).containsExactly(16);
+        assertThat(PokemonFilterIndex.count(index.select(hiddenFlying))).isEqualTo(2);
+        assertThat(ids(query(List.of("dragon"), null, null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("facet 개수는 조건 비트맵과의 교집합 popcount (많은 순, 0개 생략)")
+    void countsFacetsWithinBits() {
+        long[] all = index.select(query(null, null, null));
+        long[] fire = index.select(query(List.of("fire"), null, null));
+
+        assertThat(index.typeCounts(all)).containsExactly(
+                entry("flying", 3), entry("fire", 2), entry("water", 2), entry("normal", 1));
+        assertThat(index.typeCounts(fire)).containsExactly(entry("fire", 2), entry("flying", 1));
+        assertThat(index.abilityCounts(fire)).containsExactly(entry("blaze", 2), entry("solar-power", 2));
+        assertThat(index.hiddenAbilityCount(all)).isEqualTo(4);
+        assertThat(index.multiTypeCount(fire)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ids()는 커서(afterId)와 offset(skip) 기준으로 오름차순 페이지를 반환")
+    void pagesById() {
+        long[] flying = index.select(query(List.of("flying"), null, null));
+
+        assertThat(PokemonFilterIndex.ids(flying, 0, 0, 2)).containsExactly(6, 16);
+        assertThat(PokemonFilterIndex.ids(flying, 0, 2, 2)).containsExactly(130);
+        assertThat(PokemonFilterIndex.ids(flying, 6, 0, 10)).containsExactly(16, 130);
+        assertThat(PokemonFilterIndex.ids(flying, 130, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("with()는 기존 인덱스를 바꾸지 않고 바뀐 비트만 반영한 새 인덱스를 반환")
+    void withAddsOrReplacesPokemon() {
+        PokemonFilterIndex updated = index
+                .with(pokemon(1000, List.of("steel", "ghost"), "good-as-gold", null), null)
+                .with(pokemon(7, List.of("water", "ice"), "torrent", null),
+                        pokemon(7, List.of("water"), "torrent", "rain-dish"));
+
+        assertThat(PokemonFilterIndex.ids(updated.select(query(List.of("steel"), null, null)), 0, 0, 10)).containsExactly(1000);
+        assertThat(PokemonFilterIndex.ids(updated.select(query(List.of("ice"), null, null)), 0, 0, 10)).containsExactly(7);
+        assertThat(PokemonFilterIndex.ids(updated.select(query(List.of("water"), null, true)), 0, 0, 10)).containsExactly(130);
+
+        assertThat(ids(query(List.of("steel"), null, null))).isEmpty();
+        assertThat(ids(query(List.of("water"), null, true))).containsExactly(7, 130);
+    }
+
+    @Test
+    @DisplayName("페이지 링크의 조건 값은 URL 인코딩 (| ! 한국어 이름)")
+    void encodesQueryString() {
+        PokemonFilterIndex.Query query = PokemonFilterIndex.Query.of(
+                List.of("불꽃|water", "!비행"), List.of("blaze"), true, false);
+
+        String queryString = query.toQueryString();
+
+        assertThat(queryString).isEqualTo("&type=" + URLEncoder.encode("불꽃|water", StandardCharsets.UTF_8)
+                + "&type=%21" + URLEncoder.encode("비행", StandardCharsets.UTF_8)
+                + "&ability=blaze&hiddenAbility=true&multiType=false");
+        assertThat(queryString).doesNotContain("|", "!", "불꽃");
+        assertThat(URLDecoder.decode(queryString, StandardCharsets.UTF_8))
+                .isEqualTo("&type=불꽃|water&type=!비행&ability=blaze&hiddenAbility=true&multiType=false");
+    }
+
+    private List<Integer> ids(PokemonFilterIndex.Query query) {
+        return PokemonFilterIndex.ids(index.select(query), 0, 0, 100);
+    }
+
+    private static PokemonFilterIndex.Query query(List<String> types, List<String> abilities, Boolean hiddenAbility) {
+        return PokemonFilterIndex.Query.of(types, abilities, hiddenAbility)
+                .resolve(name -> name, name -> name);
+    }
+
+    private static PokemonResponse pokemon(int id, List<String> typeNames, String ability, String hiddenAbility) {
+        List<Type> types = new ArrayList<>();
+        for (String typeName : typeNames) {
+            Type.TypeDetail detail = new Type.TypeDetail();
+            detail.setName(typeName);
+            Type type = new Type();
+            type.setSlot(types.size() + 1);
+            type.setType(detail);
+            types.add(type);
+        }
+
+        List<Ability> abilities = new ArrayList<>();
+        abilities.add(ability(ability, 1, false));
+        if (hiddenAbility != null) {
+            abilities.add(ability(hiddenAbility, 3, true));
+        }
+
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setTypes(types);
+        pokemon.setAbilities(abilities);
+        return pokemon;
+    }
+
+    private static Ability ability(String name, int slot, boolean hidden) {
+        Ability.AbilityDetail detail = new Ability.AbilityDetail();
+        detail.setName(name);
+        Ability ability = new Ability();
+        ability.setAbility(detail);
+        ability.setSlot(slot);
+        ability.setHidden(hidden);
+        return ability;
+    }
+}
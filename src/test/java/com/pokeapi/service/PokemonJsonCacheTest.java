@@ -0,0 +1,70 @@
+package com.pokeapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.model.PokemonResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("개별 포켓몬 응답 JSON 캐시 테스트")
+class PokemonJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PokemonJsonCache cache = new PokemonJsonCache(objectMapper);
+
+    @Test
+    @DisplayName("같은 응답 객체면 직렬화한 본문을 재사용하고, 객체가 바뀌면 새로 직렬화")
+    void reusesBodyForSameSource() throws IOException {
+        PokemonResponse pikachu = PokedexSnapshot.of(List.of(pokemon(25, "피카츄", 60)), 1).get(25);
+
+        PokemonJsonBody body = cache.get(pikachu);
+        assertThat(cache.get(pikachu)).isSameAs(body);
+        assertThat(objectMapper.readTree(body.getJson()).get("name").asText()).isEqualTo("피카츄");
+        assertThat(body.hasGzip()).isFalse();
+
+        PokemonJsonBody heavier = cache.get(pokemon(25, "피카츄", 61));
+        assertThat(heavier).isNotSameAs(body);
+        assertThat(heavier.getEtag()).isNotEqualTo(body.getEtag());
+    }
+
+    @Test
+    @DisplayName("gzip 본문은 JSON을 압축한 것이고 ETag는 \"-gz\"로 구분")
+    void gzipBodyHasDistinctEtag() throws IOException {
+        ReflectionTestUtils.setField(cache, "gzipEnabled", true);
+
+        PokemonJsonBody body = cache.get(pokemon(25, "피카츄", 60));
+
+        assertThat(body.hasGzip()).isTrue();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getGzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(body.getJson());
+        }
+        assertThat(body.getEtag()).startsWith("\"").endsWith("\"");
+        assertThat(body.getGzipEtag()).isEqualTo(body.getEtag().replaceAll("\"$", "-gz\""));
+    }
+
+    @Test
+    @DisplayName("포켓몬이 저장되면 해당 ID 본문을 제거")
+    void evictsOnSaved() {
+        PokemonResponse pikachu = pokemon(25, "피카츄", 60);
+        PokemonJsonBody body = cache.get(pikachu);
+
+        cache.onPokemonSaved(new PokemonSavedEvent(pokemon(25, "피카츄", 61)));
+
+        assertThat(cache.get(pikachu)).isNotSameAs(body);
+    }
+
+    private static PokemonResponse pokemon(int id, String name, int weight) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setWeight(weight);
+        return pokemon;
+    }
+}
@@ -0,0 +1,153 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("없는 포켓몬 캐시 테스트")
+class PokemonNotFoundCacheTest {
+
+    private static PokemonNotFoundCache cache(long ttlSeconds, int maxSize) {
+        PokemonNotFoundCache cache = new PokemonNotFoundCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(cache, "maxSize", maxSize);
+        return cache;
+    }
+
+    private static PokemonResponse pokemon(int id, String name, String englishName) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setEnglishName(englishName);
+        return pokemon;
+    }
+
+    @Test
+    @DisplayName("대소문자/공백과 관계없이 같은 키로 기억")
+    void normalizesKeys() {
+        PokemonNotFoundCache cache = cache(300, 10);
+
+        cache.put(" MissingNo ");
+
+        assertThat(cache.contains("missingno")).isTrue();
+        assertThat(cache.contains("MISSINGNO")).isTrue();
+        assertThat(cache.contains("pikachu")).isFalse();
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 항목은 없는 것으로 보고 제거")
+    void expiresAfterTtl() {
+        PokemonNotFoundCache cache = cache(0, 10);
+
+        cache.put("missingno");
+
+        assertThat(cache.contains("missingno")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰이지 않은 항목부터 제거")
+    void evictsLeastRecentlyUsed() {
+        PokemonNotFoundCache cache = cache(300, 2);
+
+        cache.put("a");
+        cache.put("b");
+        assertThat(cache.contains("a")).isTrue();   // a를 최근에 사용
+        cache.put("c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 저장 이벤트가 오면 ID/이름/영어 이름 항목을 바로 제거")
+    void removesSavedPokemonWithoutTransaction() {
+        PokemonNotFoundCache cache = cache(300, 10);
+        cache.put("25");
+        cache.put("피카츄");
+        cache.put("Pikachu");
+        cache.put("raichu");
+
+        cache.onPokemonSaved(new PokemonSavedEvent(pokemon(25, "피카츄", "pikachu")));
+
+        assertThat(cache.contains("25")).isFalse();
+        assertThat(cache.contains("피카츄")).isFalse();
+        assertThat(cache.contains("pikachu")).isFalse();
+        assertThat(cache.contains("raichu")).isTrue();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build());
+        }
+
+        @Bean
+        PokemonNotFoundCache pokemonNotFoundCache() {
+            return cache(300, 10);
+        }
+    }
+
+    @Nested
+    @SpringJUnitConfig(TransactionConfig.class)
+    @DisplayName("저장 이벤트 트랜잭션 연동")
+    class AfterCommitTest {
+
+        @Autowired
+        private PokemonNotFoundCache cache;
+
+        @Autowired
+        private ApplicationEventPublisher publisher;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Test
+        @DisplayName("커밋된 뒤에만 항목을 제거하고, 롤백되면 그대로 유지")
+        void removesOnlyAfterCommit() {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            cache.put("25");
+            cache.put("피카츄");
+            cache.put("pikachu");
+
+            transaction.executeWithoutResult(status -> {
+                publisher.publishEvent(new PokemonSavedEvent(pokemon(25, "피카츄", "pikachu")));
+                assertThat(cache.contains("25")).isTrue();
+                status.setRollbackOnly();
+            });
+            assertThat(cache.contains("25")).isTrue();
+            assertThat(cache.contains("피카츄")).isTrue();
+
+            transaction.executeWithoutResult(status -> {
+                publisher.publishEvent(new PokemonSavedEvent(pokemon(25, "피카츄", "pikachu")));
+                assertThat(cache.contains("pikachu")).isTrue();
+            });
+            assertThat(cache.contains("25")).isFalse();
+            assertThat(cache.contains("피카츄")).isFalse();
+            assertThat(cache.contains("pikachu")).isFalse();
+        }
+    }
+}
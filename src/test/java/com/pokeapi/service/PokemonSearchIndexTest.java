@@ -0,0 +1,66 @@
+package com.pokeapi.service;
+
+import com.pokeapi.model.PokemonResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("포켓몬 검색 인덱스 테스트")
+class PokemonSearchIndexTest {
+
+    private final PokemonSearchIndex index = PokemonSearchIndex.of(List.of(
+            pokemon(1, "이상해씨", "bulbasaur"),
+            pokemon(25, "피카츄", "pikachu"),
+            pokemon(26, "라이츄", "raichu"),
+            pokemon(172, "피츄", "pichu")));
+
+    @Test
+    @DisplayName("한국어/영어 부분 일치는 정확히 일치 -> 앞부분 일치 -> 부분 일치 순으로 정렬")
+    void searchByNameRanksExactAndPrefixFirst() {
+        assertThat(index.search("츄", 20)).containsExactly(25, 26, 172);
+        assertThat(index.search("PI", 20)).containsExactly(25, 172);
+        assertThat(index.search("pichu", 20)).containsExactly(172);
+        assertThat(index.search("raichu", 20)).containsExactly(26);
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 한국어 이름의 초성으로 검색")
+    void searchByChosung() {
+        assertThat(index.search("ㅍㅋㅊ", 20)).containsExactly(25);
+        assertThat(index.search("ㅍ", 20)).containsExactly(25, 172);
+    }
+
+    @Test
+    @DisplayName("일치하는 포켓몬이 없으면 빈 결과, limit 개수까지만 반환")
+    void searchWithoutMatchOrOverLimit() {
+        assertThat(index.search("mew", 20)).isEmpty();
+        assertThat(index.search("  ", 20)).isEmpty();
+        assertThat(index.search("츄", 2)).containsExactly(25, 26);
+    }
+
+    @Test
+    @DisplayName("with()는 기존 인덱스를 바꾸지 않고 추가/교체된 새 인덱스를 반환")
+    void withAddsOrReplacesPokemon() {
+        PokemonSearchIndex updated = index
+                .with(pokemon(133, "이브이", "eevee"))
+                .with(pokemon(26, "라이츄", "raichu-alola"));
+
+        assertThat(updated.search("eevee", 20)).containsExactly(133);
+        assertThat(updated.search("alola", 20)).containsExactly(26);
+        assertThat(updated.size()).isEqualTo(5);
+
+        assertThat(index.search("eevee", 20)).isEmpty();
+        assertThat(index.search("alola", 20)).isEmpty();
+    }
+
+    private static PokemonResponse pokemon(int id, String name, String englishName) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setEnglishName(englishName);
+        return pokemon;
+    }
+}
@@ -0,0 +1,335 @@
+package com.pokeapi.service;
+
+import com.pokeapi.client.PokemonClient;
+import com.pokeapi.entity.Pokemon;
+import com.pokeapi.entity.Type;
+import com.pokeapi.exception.ExternalApiException;
+import com.pokeapi.exception.PokemonNotFoundException;
+import com.pokeapi.model.PokemonBatchResponse;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.model.PokemonSpeciesResponse;
+import com.pokeapi.repository.PokemonRepository;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포켓몬 서비스 조회 경로 테스트
+ *
+ * DB/PokeAPI는 목으로 대신하고, 트랜잭션 매니저는 동시에 열린 트랜잭션 수(= 요청이 잡은 커넥션 수)를 셉니다
+ */
+@DisplayName("포켓몬 서비스 조회 경로 테스트")
+class PokemonServiceTest {
+
+    private final PokemonRepository pokemonRepository = mock(PokemonRepository.class);
+    private final TypeAbilityDictionary dictionary = mock(TypeAbilityDictionary.class);
+    private final PokemonClient pokemonClient = mock(PokemonClient.class);
+    private final PokedexSnapshotManager snapshotManager = mock(PokedexSnapshotManager.class);
+    private final PokemonWriteBehind writeBehind = mock(PokemonWriteBehind.class);
+    private final PokemonNotFoundCache notFoundCache = new PokemonNotFoundCache();
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+
+    private PokemonService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notFoundCache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(notFoundCache, "maxSize", 100);
+        when(snapshotManager.current()).thenReturn(PokedexSnapshot.empty());
+        when(dictionary.type(anyString())).thenAnswer(invocation -> new Type(invocation.getArgument(0), "노말"));
+        when(pokemonRepository.save(any(Pokemon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        service = new PokemonService(pokemonRepository, dictionary, pokemonClient, snapshotManager, notFoundCache,
+                writeBehind, mock(ApplicationEventPublisher.class), transactionManager, 4, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static PokemonResponse apiPokemon(int id, String name) {
+        com.pokeapi.model.Type.TypeDetail detail = new com.pokeapi.model.Type.TypeDetail();
+        detail.setName("normal");
+        com.pokeapi.model.Type type = new com.pokeapi.model.Type();
+        type.setSlot(1);
+        type.setType(detail);
+
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setTypes(List.of(type));
+        pokemon.setAbilities(List.of());
+        return pokemon;
+    }
+
+    private static FeignException.NotFound notFound(String path) {
+        Request request = Request.create(Request.HttpMethod.GET, "https://pokeapi.co/api/v2/" + path,
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Not Found", request, null, Map.of());
+    }
+
+    @Test
+    @DisplayName("DB에 없으면 트랜잭션 없이 PokeAPI를 부르고, 저장은 별도 트랜잭션 하나로 함")
+    void callsPokeApiOutsideTransaction() {
+        AtomicBoolean transactionDuringApiCall = new AtomicBoolean();
+        when(pokemonClient.getPokemon("ditto")).thenAnswer(invocation -> {
+            transactionDuringApiCall.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return apiPokemon(132, "ditto");
+        });
+
+        PokemonResponse loaded = service.getPokemon("ditto");
+
+        assertThat(loaded.getId()).isEqualTo(132);
+        assertThat(transactionDuringApiCall).isFalse();
+        assertThat(transactionManager.begun.get()).isEqualTo(2);      // DB 조회 1번 + 저장 1번
+        assertThat(transactionManager.maxOpen.get()).isEqualTo(1);    // 한 번에 커넥션 하나만 사용
+        verify(pokemonRepository).save(any(Pokemon.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작할 수 없으면(커넥션 부족 등) 404가 아니라 503 예외이고 없는 포켓몬으로 기억하지 않음")
+    void mapsInfrastructureFailureToUnavailable() {
+        transactionManager.failBegin.set(true);
+
+        assertThatThrownBy(() -> service.getPokemon("ditto"))
+                .isInstanceOf(ExternalApiException.class)
+                .hasRootCauseInstanceOf(CannotCreateTransactionException.class);
+        assertThat(notFoundCache.contains("ditto")).isFalse();
+        verify(pokemonClient, never()).getPokemon(anyString());
+    }
+
+    @Test
+    @DisplayName("PokeAPI가 404를 주면 404 예외이고 없는 포켓몬으로 기억")
+    void remembersUpstreamNotFound() {
+        when(pokemonClient.getPokemon("missingno")).thenThrow(notFound("pokemon/missingno"));
+
+        assertThatThrownBy(() -> service.getPokemon("missingno")).isInstanceOf(PokemonNotFoundException.class);
+        assertThat(notFoundCache.contains("missingno")).isTrue();
+        verify(pokemonRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("한국어 이름 키가 404면 종족 정보는 요청하지 않음")
+    void skipsSpeciesWhenPokemonIsMissing() {
+        when(pokemonClient.getPokemon("피카츄")).thenThrow(notFound("pokemon/피카츄"));
+
+        assertThatThrownBy(() -> service.getPokemon("피카츄")).isInstanceOf(PokemonNotFoundException.class);
+        verify(pokemonClient, never()).getPokeSpecies(anyString());
+    }
+
+    @Test
+    @DisplayName("ID/영어 이름 키는 기본 정보와 종족 정보를 동시에 요청하고 한국어 이름을 사용")
+    void requestsSpeciesConcurrently() {
+        CountDownLatch speciesStarted = new CountDownLatch(1);
+        CountDownLatch pokemonStarted = new CountDownLatch(1);
+        when(pokemonClient.getPokemon("pikachu")).thenAnswer(invocation -> {
+            pokemonStarted.countDown();
+            // 종족 정보 요청이 이미 진행 중이어야 통과 (순서대로 부르면 여기서 시간 초과)
+            assertThat(speciesStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return apiPokemon(25, "pikachu");
+        });
+        when(pokemonClient.getPokeSpecies("pikachu")).thenAnswer(invocation -> {
+            speciesStarted.countDown();
+            assertThat(pokemonStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return species("ko", "피카츄");
+        });
+
+        PokemonResponse loaded = service.getPokemon("pikachu");
+
+        assertThat(loaded.getName()).isEqualTo("피카츄");
+        assertThat(loaded.getEnglishName()).isEqualTo("pikachu");
+        verify(pokemonClient, never()).getPokeSpecies("25");
+    }
+
+    @Test
+    @DisplayName("한국어 이름 키는 종족 정보를 미리 요청하지 않고 기본 정보의 ID로 요청")
+    void requestsSpeciesByIdForKoreanKey() {
+        when(pokemonClient.getPokemon("피카츄")).thenReturn(apiPokemon(25, "pikachu"));
+        when(pokemonClient.getPokeSpecies("25")).thenReturn(species("ko", "피카츄"));
+
+        PokemonResponse loaded = service.getPokemon("피카츄");
+
+        assertThat(loaded.getName()).isEqualTo("피카츄");
+        verify(pokemonClient, never()).getPokeSpecies("피카츄");
+    }
+
+    @Test
+    @DisplayName("기본 정보가 404면 동시에 받은 종족 정보는 버리고 404")
+    void dropsSpeciesWhenPokemonIsMissing() {
+        when(pokemonClient.getPokemon("pikachu")).thenThrow(notFound("pokemon/pikachu"));
+        when(pokemonClient.getPokeSpecies("pikachu")).thenReturn(species("ko", "피카츄"));
+
+        assertThatThrownBy(() -> service.getPokemon("pikachu")).isInstanceOf(PokemonNotFoundException.class);
+        assertThat(notFoundCache.contains("pikachu")).isTrue();
+        verify(pokemonRepository, never()).save(any(Pokemon.class));
+    }
+
+    @Test
+    @DisplayName("폼 이름으로 종족 정보가 404면 ID로 한 번 더 찾고, 그래도 404면 영어 이름으로 저장")
+    void fallsBackToEnglishNameOnSpeciesNotFound() {
+        when(pokemonClient.getPokemon("deoxys-attack")).thenReturn(apiPokemon(10001, "deoxys-attack"));
+        when(pokemonClient.getPokeSpecies("deoxys-attack")).thenThrow(notFound("pokemon-species/deoxys-attack"));
+        when(pokemonClient.getPokeSpecies("10001")).thenThrow(notFound("pokemon-species/10001"));
+
+        PokemonResponse loaded = service.getPokemon("deoxys-attack");
+
+        assertThat(loaded.getName()).isEqualTo("deoxys-attack");
+        verify(pokemonClient).getPokeSpecies("10001");
+    }
+
+    @Test
+    @DisplayName("종족 정보가 일시적으로 실패하면(서킷 열림 등) 영어 이름으로 저장하지 않고 503")
+    void failsOnTransientSpeciesFailure() {
+        when(pokemonClient.getPokemon("pikachu")).thenReturn(apiPokemon(25, "pikachu"));
+        when(pokemonClient.getPokeSpecies("pikachu")).thenThrow(new ExternalApiException("서킷 브레이커 열림"));
+
+        assertThatThrownBy(() -> service.getPokemon("pikachu")).isInstanceOf(ExternalApiException.class);
+        assertThat(notFoundCache.contains("pikachu")).isFalse();
+        verify(pokemonRepository, never()).save(any(Pokemon.class));
+    }
+
+    @Test
+    @DisplayName("여러 포켓몬 조회는 스냅샷 -> DB -> PokeAPI 순으로 나눠 찾고, 요청 순서대로 한 번씩 담음")
+    void batchSplitsSnapshotDatabaseAndPokeApi() {
+        when(snapshotManager.current()).thenReturn(PokedexSnapshot.of(List.of(snapshotPokemon(1, "이상해씨", "bulbasaur")), 1));
+        when(pokemonRepository.findIdsByNameIn(anyList())).thenReturn(List.of(4L));
+        Pokemon charmander = new Pokemon(4L, "파이리", "charmander");
+        charmander.setHeight(6);
+        charmander.setWeight(85);
+        when(pokemonRepository.findAllWithTypesByIdIn(anyList())).thenReturn(List.of(charmander));
+        when(pokemonClient.getPokemon("25")).thenReturn(apiPokemon(25, "pikachu"));
+
+        PokemonBatchResponse response = service.getPokemonBatch(List.of("25", "Bulbasaur", "charmander", "1"));
+
+        assertThat(response.getResults()).extracting(PokemonResponse::getId).containsExactly(25, 1, 4);
+        assertThat(response.getNotFound()).isEmpty();
+        assertThat(response.getUnavailable()).isEmpty();
+        verify(pokemonRepository).findIdsByNameIn(List.of("charmander"));
+        verify(pokemonClient).getPokemon("25");
+        verify(pokemonClient, never()).getPokemon("charmander");
+    }
+
+    @Test
+    @DisplayName("여러 포켓몬 조회에서 PokeAPI에 없는 포켓몬만 notFound, 장애/커넥션 오류는 unavailable")
+    void batchClassifiesFailures() {
+        when(pokemonClient.getPokemon("missingno")).thenThrow(notFound("pokemon/missingno"));
+        when(pokemonClient.getPokemon("ditto")).thenThrow(new ExternalApiException("서킷 브레이커 열림"));
+
+        PokemonBatchResponse response = service.getPokemonBatch(List.of("missingno", "ditto"));
+
+        assertThat(response.getResults()).isEmpty();
+        assertThat(response.getNotFound()).containsExactly("missingno");
+        assertThat(response.getUnavailable()).containsExactly("ditto");
+
+        transactionManager.failBegin.set(true);
+        PokemonBatchResponse exhausted = service.getPokemonBatch(List.of("pikachu"));
+        assertThat(exhausted.getNotFound()).isEmpty();
+        assertThat(exhausted.getUnavailable()).containsExactly("pikachu");
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 모드에서 아직 저장되지 않은 포켓몬은 대기 목록에서 반환 (DB/PokeAPI 호출 없음)")
+    void returnsPendingWriteBehindPokemon() {
+        PokemonResponse pending = snapshotPokemon(25, "피카츄", "pikachu");
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.findPending("pikachu")).thenReturn(pending);
+
+        assertThat(service.getPokemon("Pikachu")).isSameAs(pending);
+        assertThat(transactionManager.begun.get()).isZero();
+        verify(pokemonClient, never()).getPokemon(anyString());
+    }
+
+    private static PokemonResponse snapshotPokemon(int id, String name, String englishName) {
+        PokemonResponse pokemon = apiPokemon(id, name);
+        pokemon.setEnglishName(englishName);
+        return pokemon;
+    }
+
+    private static PokemonSpeciesResponse species(String language, String name) {
+        PokemonSpeciesResponse.Language lang = new PokemonSpeciesResponse.Language();
+        lang.setName(language);
+        PokemonSpeciesResponse.Name localized = new PokemonSpeciesResponse.Name();
+        localized.setLanguage(lang);
+        localized.setName(name);
+        PokemonSpeciesResponse species = new PokemonSpeciesResponse();
+        species.setNames(List.of(localized));
+        return species;
+    }
+
+    /**
+     * 실제 커넥션 없이 트랜잭션 시작/종료만 세는 트랜잭션 매니저
+     */
+    static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+        private static final long serialVersionUID = 1L; // 직렬화 버전 ID
+
+        final AtomicInteger begun = new AtomicInteger();
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger maxOpen = new AtomicInteger();
+        final AtomicBoolean failBegin = new AtomicBoolean();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            if (failBegin.get()) {
+                throw new CannotCreateTransactionException("커넥션을 얻을 수 없습니다");
+            }
+            begun.incrementAndGet();
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            open.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.pokeapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokeapi.entity.Pokemon;
+import com.pokeapi.model.PokemonResponse;
+import com.pokeapi.repository.PokemonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("포켓몬 쓰기 지연 저장 테스트")
+class PokemonWriteBehindTest {
+
+    private final PokemonRepository pokemonRepository = mock(PokemonRepository.class);
+    private PokemonBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** 저장한 포켓몬 ID와 저장한 스레드 이름 */
+    private final List<String> persisted = Collections.synchronizedList(new ArrayList<>());
+
+    @TempDir
+    Path tempDir;
+
+    private Path journal;
+    private PokemonWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        journal = tempDir.resolve("write-behind.jsonl");
+        when(pokemonRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build());
+        // persistAllOrEach(묶음 -> 한 마리씩)는 실제 코드로, JPA persistAll만 테스트에서 대신함
+        batchWriter = spy(new PokemonBatchWriter(transactionManager));
+        doAnswer(invocation -> {
+            List<Pokemon> pokemons = invocation.getArgument(0);
+            pokemons.forEach(pokemon -> persisted.add(pokemon.getId() + "@" + Thread.currentThread().getName()));
+            return null;
+        }).when(batchWriter).persistAll(anyList());
+
+        writeBehind = new PokemonWriteBehind(pokemonRepository, batchWriter, mock(TypeAbilityDictionary.class),
+                eventPublisher, objectMapper, transactionManager);
+        ReflectionTestUtils.setField(writeBehind, "enabled", true);
+        ReflectionTestUtils.setField(writeBehind, "queueCapacity", 100);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 50);
+        ReflectionTestUtils.setField(writeBehind, "flushIntervalMillis", 10L);
+        ReflectionTestUtils.setField(writeBehind, "offerTimeoutMillis", 10L);
+        ReflectionTestUtils.setField(writeBehind, "maxAttempts", 3);
+        ReflectionTestUtils.setField(writeBehind, "baseDelayMillis", 1L);
+        ReflectionTestUtils.setField(writeBehind, "journalFile", journal.toString());
+        ReflectionTestUtils.setField(writeBehind, "journalRetrySeconds", 3600L);
+        ReflectionTestUtils.setField(writeBehind, "shutdownTimeoutSeconds", 5L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.shutdown();
+    }
+
+    private static PokemonResponse pokemon(int id, String name, String englishName) {
+        PokemonResponse pokemon = new PokemonResponse();
+        pokemon.setId(id);
+        pokemon.setName(name);
+        pokemon.setEnglishName(englishName);
+        return pokemon;
+    }
+
+    @Test
+    @DisplayName("저장 전에는 대기 목록에서 찾고, 저장 이벤트는 DB 저장 후에만 발행")
+    void publishesOnlyAfterPersist() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            List<Pokemon> pokemons = invocation.getArgument(0);
+            pokemons.forEach(pokemon -> persisted.add(String.valueOf(pokemon.getId())));
+            return null;
+        }).when(batchWriter).persistAll(anyList());
+        writeBehind.start();
+
+        writeBehind.submit(pokemon(25, "피카츄", "pikachu"));
+
+        assertThat(writeBehind.findPending("25").getName()).isEqualTo("피카츄");
+        assertThat(writeBehind.findPending("Pikachu")).isNotNull();
+        assertThat(writeBehind.findPending("피카츄")).isNotNull();
+        verify(eventPublisher, never()).publishEvent(any(PokemonSavedEvent.class));
+
+        release.countDown();
+        verify(eventPublisher, timeout(2000)).publishEvent(any(PokemonSavedEvent.class));
+        assertThat(persisted).containsExactly("25");
+        waitUntil(() -> writeBehind.findPending("25") == null);
+        assertThat(writeBehind.findPending("pikachu")).isNull();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드에서 바로 저장 (백프레셔)")
+    void savesOnCallerThreadWhenQueueIsFull() throws InterruptedException {
+        ReflectionTestUtils.setField(writeBehind, "queueCapacity", 1);
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<Pokemon> pokemons = invocation.getArgument(0);
+            if ("pokemon-write-behind".equals(Thread.currentThread().getName())) {
+                writerBusy.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            pokemons.forEach(pokemon -> persisted.add(pokemon.getId() + "@" + Thread.currentThread().getName()));
+            return null;
+        }).when(batchWriter).persistAll(anyList());
+        writeBehind.start();
+
+        writeBehind.submit(pokemon(1, "이상해씨", "bulbasaur"));    // 저장 스레드가 붙잡고 있음
+        assertThat(writerBusy.await(2, TimeUnit.SECONDS)).isTrue();
+        writeBehind.submit(pokemon(2, "이상해풀", "ivysaur"));      // 큐의 한 자리
+        writeBehind.submit(pokemon(3, "이상해꽃", "venusaur"));     // 자리 없음 -> 호출한 스레드에서 저장
+
+        assertThat(persisted).containsExactly("3@" + Thread.currentThread().getName());
+
+        release.countDown();
+        waitUntil(() -> persisted.size() == 3);
+        assertThat(persisted).contains("1@pokemon-write-behind", "2@pokemon-write-behind");
+    }
+
+    @Test
+    @DisplayName("DB 연결 오류로 저장이 계속 실패하면 maxAttempts번 시도한 뒤 저널에 기록하고 대기 목록에 남김")
+    void journalsAfterRetries() throws Exception {
+        doThrow(new CannotCreateTransactionException("DB 연결 실패")).when(batchWriter).persistAll(anyList());
+        writeBehind.start();
+
+        writeBehind.submit(pokemon(25, "피카츄", "pikachu"));
+
+        waitUntil(() -> !journalLines().isEmpty());
+        verify(batchWriter, times(3)).persistAll(anyList());
+        List<String> lines = journalLines();
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readValue(lines.get(0), PokemonResponse.class).getName()).isEqualTo("피카츄");
+        assertThat(writeBehind.findPending("pikachu")).isNotNull();
+        verify(eventPublisher, never()).publishEvent(any(PokemonSavedEvent.class));
+    }
+
+    @Test
+    @DisplayName("혼자서도 저장되지 않는 포켓몬만 버리고 같은 묶음의 나머지는 저장 (저널에 넣지 않음)")
+    void dropsOnlyRowsThatFailOnTheirOwn() {
+        doAnswer(invocation -> {
+            List<Pokemon> pokemons = invocation.getArgument(0);
+            if (pokemons.stream().anyMatch(pokemon -> pokemon.getId() == 2L)) {
+                throw new DataIntegrityViolationException("english_name NOT NULL 위반");
+            }
+            pokemons.forEach(pokemon -> persisted.add(String.valueOf(pokemon.getId())));
+            return null;
+        }).when(batchWriter).persistAll(anyList());
+        List<PokemonResponse> batch = List.of(
+                pokemon(1, "이상해씨", "bulbasaur"), pokemon(2, "망가진포켓몬", null), pokemon(3, "이상해꽃", "venusaur"));
+        batch.forEach(pokemon -> ReflectionTestUtils.invokeMethod(writeBehind, "addPending", pokemon));
+
+        // 저장 스레드가 한 번에 꺼낸 묶음과 같음
+        ReflectionTestUtils.invokeMethod(writeBehind, "flush", batch);
+
+        assertThat(persisted).containsExactly("1", "3");
+        verify(eventPublisher, times(2)).publishEvent(any(PokemonSavedEvent.class));
+        verify(batchWriter, times(4)).persistAll(anyList());     // 묶음 1번 + 한 마리씩 3번 (재시도 없음)
+        assertThat(writeBehind.findPending("2")).isNull();
+        assertThat(Files.exists(journal)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기동 시 저널의 포켓몬을 다시 저장하고 저널을 지움")
+    void replaysJournalOnStartup() throws Exception {
+        Files.writeString(journal,
+                objectMapper.writeValueAsString(pokemon(25, "피카츄", "pikachu")) + "\n"
+                        + objectMapper.writeValueAsString(pokemon(133, "이브이", "eevee")) + "\n",
+                StandardCharsets.UTF_8);
+        writeBehind.start();
+
+        writeBehind.replayOnStartup();
+
+        waitUntil(() -> persisted.size() == 2);
+        assertThat(persisted).containsExactlyInAnyOrder("25@pokemon-write-behind", "133@pokemon-write-behind");
+        assertThat(Files.exists(journal)).isFalse();
+        verify(eventPublisher, timeout(2000).times(2)).publishEvent(any(PokemonSavedEvent.class));
+    }
+
+    @Test
+    @DisplayName("종료 시 저장 스레드를 인터럽트하지 않고, 진행 중인 저장과 남은 큐를 마친 뒤 멈춤")
+    void shutdownDrainsWithoutInterrupting() throws InterruptedException {
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            writerBusy.countDown();
+            try {
+                TimeUnit.MILLISECONDS.sleep(200);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            List<Pokemon> pokemons = invocation.getArgument(0);
+            pokemons.forEach(pokemon -> persisted.add(pokemon.getId() + "@" + Thread.currentThread().getName()));
+            return null;
+        }).when(batchWriter).persistAll(anyList());
+        writeBehind.start();
+
+        writeBehind.submit(pokemon(1, "이상해씨", "bulbasaur"));
+        assertThat(writerBusy.await(2, TimeUnit.SECONDS)).isTrue();
+        writeBehind.submit(pokemon(4, "파이리", "charmander"));
+        writeBehind.shutdown();
+
+        assertThat(interrupted).isFalse();
+        assertThat(persisted).containsExactly("1@pokemon-write-behind", "4@pokemon-write-behind");
+        assertThat(Files.exists(journal)).isFalse();
+
+        writeBehind.submit(pokemon(7, "꼬부기", "squirtle"));    // 종료 후에는 호출한 스레드에서 저장
+        assertThat(persisted).contains("7@" + Thread.currentThread().getName());
+        verify(batchWriter, times(3)).persistAll(anyList());
+    }
+
+    private List<String> journalLines() {
+        try {
+            return Files.exists(journal) ? Files.readAllLines(journal, StandardCharsets.UTF_8) : List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError("조건을 기다리다 시간 초과");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.pokeapi.service;
+
+import com.pokeapi.entity.Type;
+import com.pokeapi.repository.AbilityRepository;
+import com.pokeapi.repository.TypeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("타입/특성 사전 테스트")
+class TypeAbilityDictionaryTest {
+
+    private final TypeRepository typeRepository = mock(TypeRepository.class);
+    private final TypeAbilityDictionary dictionary = new TypeAbilityDictionary(typeRepository,
+            mock(AbilityRepository.class), mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("DB 조회 중에는 사전을 잠그지 않고, 동시에 찾은 경우 먼저 들어간 엔티티를 함께 사용")
+    void findsOutsideTheMap() throws Exception {
+        CountDownLatch secondLookupDone = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        when(typeRepository.findByName("fire")).thenAnswer(invocation -> {
+            if (lookups.incrementAndGet() == 1) {
+                // 첫 번째 조회는 두 번째 조회가 끝날 때까지 DB I/O 중인 것처럼 붙잡음 (맵을 잠그고 있으면 시간 초과)
+                assertThat(secondLookupDone.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return Optional.of(new Type("fire", "불꽃"));
+        });
+
+        CompletableFuture<Type> first = CompletableFuture.supplyAsync(() -> dictionary.type("fire"));
+        while (lookups.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Type second = dictionary.type("fire");
+        secondLookupDone.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second);
+        assertThat(dictionary.type("fire")).isSameAs(second);
+        assertThat(lookups).hasValue(2);
+    }
+}
@@ -0,0 +1,48 @@
+package com.pokeapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("오프라인 데이터셋 번들 테스트")
+class PokedexBundleTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장한 번들을 메모리 매핑으로 읽으면 모든 컬럼이 그대로 복원됨 (null 포함)")
+    void writeAndReadRoundTrip() throws IOException {
+        PokedexBundle original = new PokedexBundle(
+                new PokedexBundle.Dictionary(new long[]{1, 2}, new String[]{"electric", "grass"}, new String[]{"전기", null}),
+                new PokedexBundle.Dictionary(new long[]{7}, new String[]{"static"}, new String[]{"정전기"}),
+                new PokedexBundle.Pokemons(new long[]{1, 25}, new String[]{"이상해씨", "피카츄"}, new String[]{"bulbasaur", "pikachu"},
+                        new int[]{7, PokedexBundle.NULL_INT}, new int[]{69, 60}, new String[]{null, "https://example.com/25.png"},
+                        new long[]{1_700_000_000_000L, PokedexBundle.NULL_LONG}),
+                new PokedexBundle.Links(new long[]{1, 25}, new long[]{2, 1}, new int[]{1, 1}, new boolean[]{false, false}),
+                new PokedexBundle.Links(new long[]{25}, new long[]{7}, new int[]{3}, new boolean[]{true}));
+
+        Path path = dir.resolve("pokedex.bundle");
+        long bytes = original.write(path);
+        PokedexBundle restored = PokedexBundle.read(path);
+
+        assertThat(bytes).isEqualTo(Files.size(path));
+        assertThat(restored).usingRecursiveComparison().isEqualTo(original);
+        assertThat(Files.exists(dir.resolve("pokedex.bundle.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("포맷 버전이 다르거나 번들이 아닌 파일은 null")
+    void otherFormatIsNull() throws IOException {
+        Path path = dir.resolve("other.bundle");
+        Files.write(path, new byte[]{'P', 'K', 'D', 'X', 0, 0, 0, 99});
+
+        assertThat(PokedexBundle.read(path)).isNull();
+    }
+}
@@ -0,0 +1,86 @@
+package com.pokeapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("토큰 버킷 속도 제한기 테스트")
+class TokenBucketRateLimiterTest {
+
+    @Test
+    @DisplayName("burst만큼은 바로 통과하고, 그다음부터는 토큰이 채워질 때까지 대기")
+    void blocksAfterBurst() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 2);   // 50ms마다 토큰 1개
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        assertThat(elapsedMillis(start)).isLessThan(40);
+
+        limiter.acquire();
+        assertThat(elapsedMillis(start)).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 채워지는 토큰은 burst를 넘지 않음")
+    void refillIsCappedAtBurst() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 2);
+        limiter.acquire();
+        limiter.acquire();
+
+        TimeUnit.MILLISECONDS.sleep(300);   // 6개분이 지났지만 2개까지만 쌓임
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        assertThat(elapsedMillis(start)).isLessThan(40);
+
+        limiter.acquire();
+        assertThat(elapsedMillis(start)).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 함께 써도 전체 속도가 permitsPerSecond를 넘지 않음")
+    void limitsAcrossThreads() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 1);   // 20ms마다 1개
+
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 5; i++) {
+                        limiter.acquire();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // 20번 중 첫 번째만 바로 통과하고 나머지 19번은 20ms 간격
+        assertThat(elapsedMillis(start)).isGreaterThanOrEqualTo(19 * 20 - 20);
+    }
+
+    @Test
+    @DisplayName("초당 허용 수가 0 이하면 생성할 수 없음")
+    void rejectsNonPositiveRate() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}